@@ -3,7 +3,6 @@ package com.campertools.app;
 public final class AppExtras {
     public static final String EXTRA_START_NORM_X = "EXTRA_START_NORM_X";
     public static final String EXTRA_START_NORM_Y = "EXTRA_START_NORM_Y";
-    public static final String EXTRA_WEATHER_JSON = "weather_json";
 
     private AppExtras() {
     }
@@ -9,6 +9,9 @@ public final class AppPrefs {
     public static final String PREF_FIRST_LAUNCH = "pref_first_launch";
     public static final String PREF_WHEELBASE = "pref_wheelbase";
     public static final String PREF_TRACK_WIDTH = "pref_track_width";
+    public static final String PREF_BLOCK_INVENTORY = "pref_block_inventory";
+    public static final String PREF_VEHICLE_TYPE = "pref_vehicle_type";
+    public static final String PREF_AXLE_SPACING = "pref_axle_spacing";
 
     private AppPrefs() {
     }
@@ -9,14 +9,26 @@ import android.util.AttributeSet;
 import android.view.View;
 import androidx.core.content.ContextCompat;
 
+/**
+ * North-up compass dial. The dial is drawn once into a hardware layer and the heading is
+ * applied through the view's rotation, so a new direction only recomposites the layer.
+ */
 public class CompassView extends View {
 
+    private static final int TICK_STEP_DEG = 5;
+    private static final int LABEL_STEP_DEG = 30;
+
     private float direction = 0;
+    // Direction last applied; smaller changes than half a pixel at the rim are skipped
+    private float drawnDirection = Float.NaN;
 
     private Paint circlePaint;
     private Paint northPaint;
     private Paint southPaint;
     private Paint textPaint;
+    private Paint tickPaint;
+    private Paint majorTickPaint;
+    private Paint labelPaint;
     private Path northPath;
     private Path southPath;
     private float centerX;
@@ -59,8 +71,26 @@ public class CompassView extends View {
         textPaint.setTextSize(40);
         textPaint.setTextAlign(Paint.Align.CENTER);
 
+        tickPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        tickPaint.setStyle(Paint.Style.STROKE);
+        tickPaint.setStrokeWidth(2f);
+        tickPaint.setColor(secondaryColor);
+
+        majorTickPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        majorTickPaint.setStyle(Paint.Style.STROKE);
+        majorTickPaint.setStrokeWidth(4f);
+        majorTickPaint.setColor(secondaryColor);
+
+        labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        labelPaint.setColor(secondaryColor);
+        labelPaint.setTextSize(24);
+        labelPaint.setTextAlign(Paint.Align.CENTER);
+
         northPath = new Path();
         southPath = new Path();
+
+        // onDraw runs only when the dial itself changes; rotation reuses the layer
+        setLayerType(LAYER_TYPE_HARDWARE, null);
     }
 
     public void setNightMode(boolean isNightMode) {
@@ -74,7 +104,10 @@ public class CompassView extends View {
         circlePaint.setColor(color);
         southPaint.setColor(color);
         textPaint.setColor(color);
-        
+        tickPaint.setColor(color);
+        majorTickPaint.setColor(color);
+        labelPaint.setColor(color);
+
         invalidate();
     }
 
@@ -83,7 +116,16 @@ public class CompassView extends View {
      */
     public void setDirection(float direction) {
         this.direction = direction;
-        invalidate(); // Redraw the view
+        if (!Float.isNaN(drawnDirection)) {
+            float delta = Math.abs((direction - drawnDirection + 540f) % 360f - 180f);
+            // Letters sit up to 50px outside the ring
+            float rimPx = (float) Math.toRadians(delta) * (radius + 50f);
+            if (rimPx < 0.5f) {
+                return;
+            }
+        }
+        drawnDirection = direction;
+        setRotation(-direction);
     }
 
     @Override
@@ -113,11 +155,19 @@ public class CompassView extends View {
         // Draw the outer circle
         canvas.drawCircle(centerX, centerY, radius, circlePaint);
 
-        // Save the current canvas state
-        canvas.save();
-
-        // Rotate the canvas to the correct direction
-        canvas.rotate(-direction, centerX, centerY);
+        // Tick ring with degree labels between the cardinal letters
+        for (int deg = 0; deg < 360; deg += TICK_STEP_DEG) {
+            boolean major = deg % LABEL_STEP_DEG == 0;
+            float length = major ? 24f : 12f;
+            canvas.save();
+            canvas.rotate(deg, centerX, centerY);
+            canvas.drawLine(centerX, centerY - radius, centerX, centerY - radius + length,
+                    major ? majorTickPaint : tickPaint);
+            if (major && deg % 90 != 0) {
+                canvas.drawText(Integer.toString(deg), centerX, centerY - radius + length + 28f, labelPaint);
+            }
+            canvas.restore();
+        }
 
         // Draw the North-pointing triangle
         canvas.drawPath(northPath, northPaint);
@@ -130,8 +180,5 @@ public class CompassView extends View {
         canvas.drawText("S", centerX, centerY + radius + 50, textPaint);
         canvas.drawText("E", centerX + radius + 30, centerY + 15, textPaint);
         canvas.drawText("W", centerX - radius - 30, centerY + 15, textPaint);
-
-        // Restore the canvas to its original state (pre-rotation)
-        canvas.restore();
     }
 }
@@ -0,0 +1,143 @@
+package com.campertools.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.campertools.app.weather.ForecastCache;
+import com.campertools.app.weather.ForecastFrame;
+import com.campertools.app.weather.ForecastLoader;
+import com.campertools.app.weather.ForecastObservers;
+import com.campertools.app.weather.ForecastRequest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Process-wide owner of the parsed forecast.
+ * Activities read {@link #latest} and register an {@link Observer} instead of passing
+ * forecast data through Intents; fetching and parsing happen once on a shared worker thread.
+ * Frames are kept per {@link ForecastCache#cellKey cache cell}. Each observer declares the
+ * {@link ForecastRequest} it needs and follows the cell of the latest {@link #refresh} of it,
+ * as routed by {@link ForecastObservers}. Observers are called on the main thread.
+ */
+public final class ForecastRepository {
+
+    public interface Observer {
+        void onForecast(ForecastFrame forecast, boolean stale);
+
+        void onForecastError(IOException error);
+    }
+
+    // A few recent cells: the current spot and where the user just came from
+    private static final int MAX_CELLS = 4;
+
+    private static ForecastRepository instance;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ForecastLoader loader;
+    // Touched on the main thread only
+    private final ForecastObservers<Observer> observers = new ForecastObservers<>();
+    private final Map<String, ForecastFrame> latestByCell = lruMap(MAX_CELLS);
+    // One callback per cell and request, so repeated refreshes join the same load
+    private final Map<String, RefreshCallback> callbacks = lruMap(MAX_CELLS * 4);
+
+    private ForecastRepository(Context appContext) {
+        loader = new ForecastLoader(
+                new ForecastCache(new File(appContext.getCacheDir(), ForecastCache.DIRECTORY_NAME)),
+                executor
+        );
+    }
+
+    public static synchronized ForecastRepository get(Context context) {
+        if (instance == null) {
+            instance = new ForecastRepository(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Most recent forecast for the cache cell containing the position if it has everything
+     * {@code request} needs, or null. The frame is shared and must not be modified.
+     */
+    public ForecastFrame latest(ForecastRequest request, double latitude, double longitude) {
+        ForecastFrame latest = latestByCell.get(ForecastCache.cellKey(latitude, longitude));
+        return latest != null && request.isSatisfiedBy(latest) ? latest : null;
+    }
+
+    public void addObserver(ForecastRequest request, Observer observer) {
+        observers.add(request, observer);
+    }
+
+    public void removeObserver(Observer observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Loads {@code request} for the given position. The work is not tied to any activity,
+     * so a fetch started on one screen still lands in {@link #latest} for the next.
+     * Observers of {@code request} switch to this position's cell.
+     */
+    public void refresh(ForecastRequest request, double latitude, double longitude) {
+        String cell = ForecastCache.cellKey(latitude, longitude);
+        observers.watch(request, cell);
+        String key = cell + '|' + request.signature();
+        RefreshCallback callback = callbacks.get(key);
+        if (callback == null) {
+            callback = new RefreshCallback(cell, request);
+            callbacks.put(key, callback);
+        }
+        // Repeated taps and screen changes join the outstanding load for the same cell
+        loader.load(request, latitude, longitude, callback);
+    }
+
+    private final class RefreshCallback implements ForecastLoader.Callback {
+        final String cell;
+        final ForecastRequest request;
+
+        RefreshCallback(String cell, ForecastRequest request) {
+            this.cell = cell;
+            this.request = request;
+        }
+
+        @Override
+        public void onForecast(final ForecastFrame forecast, final boolean stale) {
+            mainHandler.post(() -> deliver(cell, forecast, stale));
+        }
+
+        @Override
+        public void onError(final IOException error) {
+            mainHandler.post(() -> deliverError(cell, request, error));
+        }
+    }
+
+    private void deliver(String cell, ForecastFrame forecast, boolean stale) {
+        latestByCell.put(cell, forecast);
+        List<Observer> targets = observers.forFrame(cell, forecast);
+        for (int i = 0; i < targets.size(); i++) {
+            targets.get(i).onForecast(forecast, stale);
+        }
+    }
+
+    private void deliverError(String cell, ForecastRequest request, IOException error) {
+        List<Observer> targets = observers.forError(cell, request);
+        for (int i = 0; i < targets.size(); i++) {
+            targets.get(i).onForecastError(error);
+        }
+    }
+
+    private static <V> Map<String, V> lruMap(final int maxEntries) {
+        return new LinkedHashMap<String, V>(maxEntries + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.campertools.app;
 import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Picture;
 import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.view.View;
@@ -18,6 +19,21 @@ public class LevelView extends View {
     private float tiltX = 0f;  // left/right
     private float tiltY = 0f;  // up/down
 
+    // Bubble positions last drawn, and the longest bubble travel in pixels. A new tilt that
+    // moves no bubble by half a pixel or more is not redrawn.
+    private float drawnDisplayX = Float.NaN;
+    private float drawnDisplayY = Float.NaN;
+    private float maxTravelPx = 0f;
+
+    // Geometry, computed once per size
+    private float circleCx, circleCy, circleRadius, circleBubbleRadius, circleMaxOffset;
+    private float vBarHeight, vBarWidth, vBarCenterX, vBarBubbleRadius, vBarMaxOffset;
+    private float hBarWidth, hBarHeight, hBarCenterX, hBarCenterY, hBarBubbleRadius, hBarMaxOffset;
+
+    // Everything except the bubbles, recorded on the first draw after a size or night mode
+    // change. Replaying the recorded commands costs no pixel memory, unlike a full-view bitmap.
+    private Picture staticLayer;
+
     private Paint circlePaint;
     private Paint bubblePaint;
     private Paint barPaint;
@@ -106,6 +122,7 @@ public class LevelView extends View {
         centerLinePaint.setColor(secondaryColor);
         centerLinePaint.setAlpha(200);
 
+        releaseStaticLayer();
         invalidate();
     }
 
@@ -115,28 +132,90 @@ public class LevelView extends View {
     public void setTilt(float x, float y) {
         tiltX = x;
         tiltY = y;
-        invalidate(); // redraw
+        float displayX = hyperbolicScale(Math.max(-1f, Math.min(1f, x)));
+        float displayY = hyperbolicScale(Math.max(-1f, Math.min(1f, y)));
+        if (Float.isNaN(drawnDisplayX)
+                || Math.abs(displayX - drawnDisplayX) * maxTravelPx >= 0.5f
+                || Math.abs(displayY - drawnDisplayY) * maxTravelPx >= 0.5f) {
+            invalidate();
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        circleCx = w * 0.30f;
+        circleCy = h * 0.40f;
+        circleRadius = Math.min(w, h) * 0.22f;
+        circleBubbleRadius = circleRadius / 5f;
+        circleMaxOffset = circleRadius - circleBubbleRadius;
+
+        vBarHeight = circleRadius * 2.0f;
+        vBarWidth = vBarHeight * 0.25f;
+        vBarCenterX = w * 0.75f;
+        vBarBubbleRadius = vBarWidth / 2.5f;
+        vBarMaxOffset = (vBarHeight / 2f) - vBarBubbleRadius - 6f;
+
+        hBarWidth = w * 0.8f;
+        hBarHeight = h * 0.10f;
+        hBarCenterX = w / 2f;
+        hBarCenterY = h * 0.80f;
+        hBarBubbleRadius = hBarHeight / 2.5f;
+        hBarMaxOffset = (hBarWidth / 2f) - hBarBubbleRadius - 8f;
+
+        maxTravelPx = Math.max(circleMaxOffset, hBarMaxOffset);
+        drawnDisplayX = Float.NaN;
+        releaseStaticLayer();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseStaticLayer();
+    }
+
+    private void releaseStaticLayer() {
+        staticLayer = null;
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
-        float width = getWidth();
-        float height = getHeight();
+        if (staticLayer == null) {
+            if (getWidth() == 0 || getHeight() == 0) {
+                return;
+            }
+            staticLayer = new Picture();
+            drawStaticLayer(staticLayer.beginRecording(getWidth(), getHeight()));
+            staticLayer.endRecording();
+        }
+        // Replays the commands; Canvas.drawPicture is not hardware accelerated before API 23
+        staticLayer.draw(canvas);
 
         // Clamp tilt -1..1
         float clampedX = Math.max(-1f, Math.min(1f, tiltX));
         float clampedY = Math.max(-1f, Math.min(1f, tiltY));
         float displayX = hyperbolicScale(clampedX);
         float displayY = hyperbolicScale(clampedY);
+        drawnDisplayX = displayX;
+        drawnDisplayY = displayY;
+
+        // Bubbles move to the highest point (opposite of tilt)
+        canvas.drawCircle(circleCx + displayX * circleMaxOffset,
+                circleCy - displayY * circleMaxOffset, circleBubbleRadius, bubblePaint);
+        canvas.drawCircle(vBarCenterX,
+                circleCy - displayY * vBarMaxOffset, vBarBubbleRadius, barBubblePaint);
+        canvas.drawCircle(hBarCenterX + displayX * hBarMaxOffset,
+                hBarCenterY, hBarBubbleRadius, barBubblePaint);
+    }
 
+    /**
+     * Outlines, guides and crosshairs; redrawn only after a size or night mode change.
+     */
+    private void drawStaticLayer(Canvas canvas) {
         // ---- CIRCULAR LEVEL (upper-left) ----
-        float circleCx = width * 0.30f;
-        float circleCy = height * 0.40f;
-        float circleRadius = Math.min(width, height) * 0.22f;
-        float circleBubbleRadius = circleRadius / 5f;
-
         // Outer circle
         canvas.drawCircle(circleCx, circleCy, circleRadius, circlePaint);
 
@@ -149,21 +228,8 @@ public class LevelView extends View {
         canvas.drawLine(circleCx - circleRadius, circleCy, circleCx + circleRadius, circleCy, centerLinePaint);
         canvas.drawLine(circleCx, circleCy - circleRadius, circleCx, circleCy + circleRadius, centerLinePaint);
 
-        float circleMaxOffset = circleRadius - circleBubbleRadius;
-
-        // Bubble moves to the highest point (opposite of tilt)
-        float circleBubbleCx = circleCx + displayX * circleMaxOffset;
-        float circleBubbleCy = circleCy - displayY * circleMaxOffset;
-
-        canvas.drawCircle(circleBubbleCx, circleBubbleCy, circleBubbleRadius, bubblePaint);
-
         // ---- VERTICAL BAR LEVEL (next to circle, uses tiltY) ----
-        float vBarHeight = circleRadius * 2.0f;
-        float vBarWidth = vBarHeight * 0.25f;
-
-        float vBarCenterX = width * 0.75f;
         float vBarCenterY = circleCy;
-
         float vBarLeft = vBarCenterX - vBarWidth / 2f;
         float vBarRight = vBarCenterX + vBarWidth / 2f;
         float vBarTop = vBarCenterY - vBarHeight / 2f;
@@ -186,22 +252,9 @@ public class LevelView extends View {
             canvas.drawLine(vBarLeft, y, vBarRight, y, linePaint);
         }
 
-        float vBarBubbleRadius = vBarWidth / 2.5f;
-        float vBarMaxOffset = (vBarHeight / 2f) - vBarBubbleRadius - 6f;
-
-        // Bubble moves to the highest point (opposite of tilt)
-        float vBarBubbleCx = vBarCenterX;
-        float vBarBubbleCy = vBarCenterY - displayY * vBarMaxOffset;
-
-        canvas.drawCircle(vBarBubbleCx, vBarBubbleCy, vBarBubbleRadius, barBubblePaint);
-
         // ---- HORIZONTAL BAR LEVEL (bottom, uses tiltX) ----
-        float hBarWidth = width * 0.8f;
-        float hBarHeight = height * 0.10f;
-        float hBarLeft = (width - hBarWidth) / 2f;
+        float hBarLeft = hBarCenterX - hBarWidth / 2f;
         float hBarRight = hBarLeft + hBarWidth;
-
-        float hBarCenterY = height * 0.80f;
         float hBarTop = hBarCenterY - hBarHeight / 2f;
         float hBarBottom = hBarCenterY + hBarHeight / 2f;
 
@@ -211,8 +264,6 @@ public class LevelView extends View {
         // Bar outline
         canvas.drawRoundRect(hBarRect, hBarRadius, hBarRadius, barPaint);
 
-        float hBarCenterX = width / 2f;
-
         // Center line for horizontal bar
         canvas.drawLine(hBarCenterX, hBarTop, hBarCenterX, hBarBottom, centerLinePaint);
 
@@ -223,15 +274,6 @@ public class LevelView extends View {
             x = hBarCenterX + (hBarWidth / 2.0f) * (i / 5.0f);
             canvas.drawLine(x, hBarTop, x, hBarBottom, linePaint);
         }
-
-        float hBarBubbleRadius = hBarHeight / 2.5f;
-        float hBarMaxOffset = (hBarWidth / 2f) - hBarBubbleRadius - 8f;
-
-        // Bubble moves to the highest point (opposite of tilt)
-        float hBarBubbleCx = hBarCenterX + displayX * hBarMaxOffset;
-        float hBarBubbleCy = hBarCenterY;
-
-        canvas.drawCircle(hBarBubbleCx, hBarBubbleCy, hBarBubbleRadius, barBubblePaint);
     }
 
     private float hyperbolicScale(float value) {
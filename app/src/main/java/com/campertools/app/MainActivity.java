@@ -5,10 +5,6 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.content.SharedPreferences;
-import android.hardware.Sensor;
-import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
-import android.hardware.SensorManager;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraManager;
 import android.location.Location;
@@ -51,32 +47,37 @@ import com.android.billingclient.api.ProductDetails;
 import com.android.billingclient.api.PurchasesUpdatedListener;
 import com.android.billingclient.api.Purchase;
 import com.android.billingclient.api.QueryProductDetailsParams;
-import com.campertools.app.weather.OpenMeteoClient;
+import com.campertools.app.level.ReadoutFormatter;
+import com.campertools.app.level.TiltReading;
+import com.campertools.app.sensor.SensorHub;
+import com.campertools.app.sensor.UiUpdateCoalescer;
+import com.campertools.app.weather.ForecastFrame;
+import com.campertools.app.weather.ForecastRequest;
 import com.campertools.app.weather.WeatherNowParser;
 import com.campertools.app.weather.WeatherNowSnapshot;
 import com.campertools.app.weather.WeatherUnits;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
-public class MainActivity extends AppCompatActivity implements SensorEventListener {
+public class MainActivity extends AppCompatActivity {
 
     private static final int REQUEST_LOCATION_PERMISSION = 1001;
     private static final int REQUEST_CAMERA_PERMISSION = 1003;
     private static final String DONATION_PRODUCT_ID = "donationcoffee";
-    private static final float ACCEL_ALPHA = 0.12f;
-    private static final float MAG_ALPHA = 0.10f;
-    private static final float TILT_ALPHA = 0.12f;
-    private static final float AZIMUTH_ALPHA = 0.18f;
     private static final String STATE_PITCH_OFFSET_DEG = "state_pitch_offset_deg";
     private static final String STATE_ROLL_OFFSET_DEG = "state_roll_offset_deg";
-    private static final long WEATHER_CACHE_WINDOW_MS = 60_000L;
     private static final long LOCATION_TIMEOUT_MS = 12_000L;
+    // Current conditions plus the rolling 24h window shown on this screen
+    private static final ForecastRequest WEATHER_REQUEST = new ForecastRequest.Builder()
+            .currentWeather()
+            .hourly(ForecastRequest.HOURLY_TEMPERATURE
+                    | ForecastRequest.HOURLY_PRECIPITATION
+                    | ForecastRequest.HOURLY_WEATHER_CODE)
+            .hours(24)
+            .build();
 
     // Elevation UI
     private TextView textElevation;
@@ -120,22 +121,14 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     // Location
     private LocationManager locationManager;
 
-    // Sensors
-    private SensorManager sensorManager;
-    private Sensor accelerometer;
-    private Sensor magnetometer;
-    private final float[] filteredAccel = new float[3];
-    private final float[] filteredMag = new float[3];
-    private final float[] accelReading = new float[3];
-    private final float[] magnetReading = new float[3];
-    private boolean accelInitialized = false;
-    private boolean magInitialized = false;
-    private boolean hasAccel = false;
-    private boolean hasMag = false;
-    private boolean tiltInitialized = false;
-    private float smoothNormX = 0f;
-    private float smoothNormY = 0f;
-    private float smoothedAzimuthDeg = Float.NaN;
+    // Sensors. Filtering happens in the shared SensorHub on its thread; readings reach the UI
+    // through sensorUiUpdate, at most once per frame.
+    private SensorHub sensorHub;
+    private final SensorHub.Listener sensorListener = this::onSensorSample;
+    private final TiltReading uiReading = new TiltReading();
+    private final UiUpdateCoalescer sensorUiUpdate = new UiUpdateCoalescer(this::applySensorReading);
+    private ReadoutFormatter tiltFormatter;
+    private ReadoutFormatter headingFormatter;
 
     // Camera
     private CameraManager cameraManager;
@@ -152,19 +145,15 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     private boolean useNightMode = false;
     private float pitchOffsetDeg = 0f;
     private float rollOffsetDeg = 0f;
-    private long lastWeatherFetchMs = 0L;
-    private String lastWeatherKey = null;
 
     // Last known values
     public static Location cachedLocation;
-    private String lastJsonWeather;
     private FusedLocationProviderClient fusedLocationClient;
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private LocationCallback pendingLocationCallback;
     private Runnable pendingLocationTimeout;
     private ActivityResultLauncher<Intent> settingsLauncher;
-    private final ExecutorService networkExecutor = Executors.newSingleThreadExecutor();
-    private Future<?> pendingWeatherTask;
+    private ForecastRepository forecastRepository;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -179,6 +168,7 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         });
 
         fusedLocationClient = LocationServices.getFusedLocationProviderClient(this);
+        forecastRepository = ForecastRepository.get(this);
 
         settingsLauncher = registerForActivityResult(
                 new ActivityResultContracts.StartActivityForResult(),
@@ -197,7 +187,7 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
                                 .putBoolean(AppPrefs.PREF_USE_IMPERIAL, useImperial)
                                 .putBoolean(AppPrefs.PREF_USE_NIGHT_MODE, useNightMode)
                                 .apply();
-                        updateTiltAndCompass();
+                        sensorHub.setOffsets(pitchOffsetDeg, rollOffsetDeg);
                         refreshAllDisplays();
                         applyNightMode();
                     }
@@ -216,6 +206,8 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
             useImperial = prefs.getBoolean(AppPrefs.PREF_USE_IMPERIAL, false);
             useNightMode = prefs.getBoolean(AppPrefs.PREF_USE_NIGHT_MODE, false);
         }
+        tiltFormatter = new ReadoutFormatter(getString(R.string.tilt_format), Locale.getDefault());
+        headingFormatter = new ReadoutFormatter(getString(R.string.heading_format), Locale.getDefault());
 
         // Elevation UI
         textElevation = (TextView) findViewById(R.id.textElevation);
@@ -253,8 +245,8 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
                 intent.putExtra(SettingsActivity.EXTRA_ROLL_OFFSET_DEG, rollOffsetDeg);
                 intent.putExtra(SettingsActivity.EXTRA_USE_IMPERIAL, useImperial);
                 intent.putExtra(SettingsActivity.EXTRA_USE_NIGHT_MODE, useNightMode);
-                intent.putExtra(AppExtras.EXTRA_START_NORM_X, smoothNormX);
-                intent.putExtra(AppExtras.EXTRA_START_NORM_Y, smoothNormY);
+                intent.putExtra(AppExtras.EXTRA_START_NORM_X, uiReading.smoothNormX);
+                intent.putExtra(AppExtras.EXTRA_START_NORM_Y, uiReading.smoothNormY);
                 startActivity(intent);
             });
         }
@@ -272,18 +264,15 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         locationManager = (LocationManager) getSystemService(Context.LOCATION_SERVICE);
 
         // Sensor services
-        sensorManager = (SensorManager) getSystemService(Context.SENSOR_SERVICE);
-        if (sensorManager != null) {
-            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
-            magnetometer = sensorManager.getDefaultSensor(Sensor.TYPE_MAGNETIC_FIELD);
-        }
+        sensorHub = SensorHub.get(this);
+        sensorHub.setOffsets(pitchOffsetDeg, rollOffsetDeg);
 
         // Flashlight setup
         initFlashlight();
 
         // Compass toggle
         if (switchCompass != null) {
-            if (magnetometer == null) {
+            if (!sensorHub.hasHeadingSensor()) {
                 switchCompass.setEnabled(false);
                 Toast.makeText(this, R.string.compass_unavailable, Toast.LENGTH_LONG).show();
             } else {
@@ -292,7 +281,8 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
                     public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
                         showCompass = isChecked;
                         updateModeViews();
-                        updateSensorRegistration();
+                        subscribeSensors();
+                        sensorHub.wake();
                     }
                 });
             }
@@ -337,11 +327,7 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         buttonExtraData.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View view) {
-                Intent intent = new Intent(MainActivity.this, SunActivity.class);
-                if (lastJsonWeather != null) {
-                    intent.putExtra(AppExtras.EXTRA_WEATHER_JSON, lastJsonWeather);
-                }
-                startActivity(intent);
+                startActivity(new Intent(MainActivity.this, SunActivity.class));
             }
         });
 
@@ -488,6 +474,9 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
             compassView.setVisibility(showCompass ? View.VISIBLE : View.GONE);
         }
         if (textTilt != null) {
+            // The placeholder replaces the readout, so the next reading must be written
+            tiltFormatter.reset();
+            headingFormatter.reset();
             if (showCompass) {
                 textTilt.setText(getString(R.string.heading_placeholder));
             } else {
@@ -497,11 +486,14 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     }
 
     private void refreshAllDisplays() {
-        if (cachedLocation != null) {
-            updateElevation(cachedLocation);
+        if (cachedLocation == null) {
+            return;
         }
-        if (lastJsonWeather != null) {
-            String[] texts = parseWeatherJson(lastJsonWeather);
+        updateElevation(cachedLocation);
+        ForecastFrame forecast = forecastRepository.latest(
+                WEATHER_REQUEST, cachedLocation.getLatitude(), cachedLocation.getLongitude());
+        if (forecast != null) {
+            String[] texts = formatWeather(forecast);
             if (texts != null) {
                 textWeatherNow.setText(texts[0]);
                 textWeatherRange.setText(texts[1]);
@@ -755,24 +747,6 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     // ========= Weather networking & parsing =========
 
     private void fetchWeather(final double lat, final double lon) {
-        String cacheKey = String.format(Locale.US, "%.3f,%.3f", lat, lon);
-        long now = System.currentTimeMillis();
-        if (lastJsonWeather != null
-                && lastWeatherKey != null
-                && lastWeatherKey.equals(cacheKey)
-                && (now - lastWeatherFetchMs) < WEATHER_CACHE_WINDOW_MS) {
-            String[] texts = parseWeatherJson(lastJsonWeather);
-            if (texts != null) {
-                textWeatherNow.setText(texts[0]);
-                textWeatherRange.setText(texts[1]);
-                if (textWind != null) {
-                    textWind.setText(texts[2]);
-                }
-                textPrecip.setText(texts[3]);
-                return;
-            }
-        }
-
         textWeatherNow.setText(getString(R.string.weather_loading));
         textWeatherRange.setText(getString(R.string.weather_next_loading));
         if (textWind != null) {
@@ -780,59 +754,44 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         }
         textPrecip.setText(getString(R.string.precip_loading));
 
-        if (pendingWeatherTask != null) {
-            pendingWeatherTask.cancel(true);
-        }
+        forecastRepository.refresh(WEATHER_REQUEST, lat, lon);
+    }
 
-        pendingWeatherTask = networkExecutor.submit(() -> {
-            try {
-                final String json = OpenMeteoClient.fetchForecastJson(lat, lon);
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
+    private final ForecastRepository.Observer forecastObserver = new ForecastRepository.Observer() {
+        @Override
+        public void onForecast(ForecastFrame forecast, boolean stale) {
+            String[] resultTexts = formatWeather(forecast);
+            if (resultTexts != null) {
+                textWeatherNow.setText(resultTexts[0]);
+                textWeatherRange.setText(resultTexts[1]);
+                if (textWind != null) {
+                    textWind.setText(resultTexts[2]);
                 }
-
-                lastJsonWeather = json;
-                lastWeatherFetchMs = System.currentTimeMillis();
-                lastWeatherKey = cacheKey;
-
-                final String[] resultTexts = parseWeatherJson(json);
-                runOnUiThread(() -> {
-                    if (isFinishing() || isDestroyed()) return;
-                    if (resultTexts != null) {
-                        textWeatherNow.setText(resultTexts[0]);
-                        textWeatherRange.setText(resultTexts[1]);
-                        if (textWind != null) {
-                            textWind.setText(resultTexts[2]);
-                        }
-                        textPrecip.setText(resultTexts[3]);
-                    } else {
-                        textWeatherNow.setText(getString(R.string.weather_parse_error));
-                        textWeatherRange.setText(getString(R.string.weather_range_label));
-                        if (textWind != null) {
-                            textWind.setText(getString(R.string.wind_label));
-                        }
-                        textPrecip.setText(getString(R.string.precip_label));
-                    }
-                });
-            } catch (Exception e) {
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
+                textPrecip.setText(resultTexts[3]);
+            } else {
+                textWeatherNow.setText(getString(R.string.weather_parse_error));
+                textWeatherRange.setText(getString(R.string.weather_range_label));
+                if (textWind != null) {
+                    textWind.setText(getString(R.string.wind_label));
                 }
-                runOnUiThread(() -> {
-                    if (isFinishing() || isDestroyed()) return;
-                    textWeatherNow.setText(getString(R.string.weather_network_error));
-                    textWeatherRange.setText(getString(R.string.weather_range_label));
-                    if (textWind != null) {
-                        textWind.setText(getString(R.string.wind_label));
-                    }
-                    textPrecip.setText(getString(R.string.precip_label));
-                });
+                textPrecip.setText(getString(R.string.precip_label));
             }
-        });
-    }
+        }
+
+        @Override
+        public void onForecastError(IOException error) {
+            textWeatherNow.setText(getString(R.string.weather_network_error));
+            textWeatherRange.setText(getString(R.string.weather_range_label));
+            if (textWind != null) {
+                textWind.setText(getString(R.string.wind_label));
+            }
+            textPrecip.setText(getString(R.string.precip_label));
+        }
+    };
 
-    private String[] parseWeatherJson(String json) {
-        WeatherNowSnapshot snapshot = WeatherNowParser.parseCurrentAndNext24h(json, Calendar.getInstance());
+    private String[] formatWeather(ForecastFrame forecast) {
+        WeatherNowSnapshot snapshot = WeatherNowParser.currentAndNext24h(
+                forecast, System.currentTimeMillis() / 1000L);
         if (snapshot == null) {
             return null;
         }
@@ -926,12 +885,7 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     }
 
     private String getPrecipTypeLabel(WeatherNowSnapshot snapshot) {
-        switch (WeatherUnits.precipitationTypeBucket(
-                snapshot.avgTempC,
-                snapshot.anySnowCode,
-                snapshot.anyThunderCode,
-                snapshot.anyFreezingCode
-        )) {
+        switch (WeatherUnits.precipitationTypeBucket(snapshot.avgTempC, snapshot.weatherFlags)) {
             case WeatherUnits.PRECIP_TYPE_THUNDERSTORM_RAIN:
                 return getString(R.string.precip_type_thunderstorm_rain);
             case WeatherUnits.PRECIP_TYPE_SNOW:
@@ -947,36 +901,26 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     @Override
     protected void onResume() {
         super.onResume();
-        if (sensorManager != null && accelerometer != null) {
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_UI);
-        }
-        updateSensorRegistration();
+        subscribeSensors();
+        // The hub may already hold a converged reading from another screen
+        sensorUiUpdate.requestUpdate();
+        forecastRepository.addObserver(WEATHER_REQUEST, forecastObserver);
         
         // Auto-refresh GPS
         pendingWeather = false;
         checkPermissionAndProceed();
     }
 
-    private void updateSensorRegistration() {
-        if (sensorManager == null || magnetometer == null) {
-            return;
-        }
-        sensorManager.unregisterListener(this, magnetometer);
-        if (showCompass) {
-            sensorManager.registerListener(this, magnetometer, SensorManager.SENSOR_DELAY_UI);
-        }
+    private void subscribeSensors() {
+        sensorHub.subscribe(showCompass ? SensorHub.TILT | SensorHub.HEADING : SensorHub.TILT, sensorListener);
     }
 
     @Override
     protected void onPause() {
         super.onPause();
-        if (sensorManager != null) {
-            sensorManager.unregisterListener(this);
-        }
-        if (pendingWeatherTask != null) {
-            pendingWeatherTask.cancel(true);
-            pendingWeatherTask = null;
-        }
+        sensorHub.unsubscribe(sensorListener);
+        sensorUiUpdate.cancel();
+        forecastRepository.removeObserver(forecastObserver);
         cancelPendingLocationRequests();
         if (flashlightOn) {
             turnOffFlashlight();
@@ -987,11 +931,6 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (pendingWeatherTask != null) {
-            pendingWeatherTask.cancel(true);
-            pendingWeatherTask = null;
-        }
-        networkExecutor.shutdownNow();
         cancelPendingLocationRequests();
         if (billingClient != null) {
             billingClient.endConnection();
@@ -1005,148 +944,47 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         outState.putFloat(STATE_ROLL_OFFSET_DEG, rollOffsetDeg);
     }
 
-    @Override
-    public void onSensorChanged(SensorEvent event) {
-        int type = event.sensor.getType();
-        if (type == Sensor.TYPE_ACCELEROMETER) {
-            // Shake detection
-            if (shakeEnabled) {
-                float x = event.values[0];
-                float y = event.values[1];
-                float z = event.values[2];
-                float gX = x / SensorManager.GRAVITY_EARTH;
-                float gY = y / SensorManager.GRAVITY_EARTH;
-                float gZ = z / SensorManager.GRAVITY_EARTH;
-                // gForce will be close to 1 when there is no movement.
-                double gForce = Math.sqrt(gX * gX + gY * gY + gZ * gZ);
-
-                if (gForce > SHAKE_THRESHOLD_GRAVITY) {
-                    long now = System.currentTimeMillis();
-                    if (now - lastShakeTime > SHAKE_DEBOUNCE_MS) {
-                        lastShakeTime = now;
-                        // Toggle flashlight
-                        if (flashlightOn) {
-                            switchFlashlight.setChecked(false); // This triggers the listener which turns it off
-                        } else {
-                            switchFlashlight.setChecked(true); // This triggers the listener which turns it on
-                        }
-                    }
+    // Runs on the sensor thread after every sample the hub processed
+    private void onSensorSample(SensorHub hub) {
+        // Shake detection
+        if (shakeEnabled) {
+            // gForce will be close to 1 when there is no movement.
+            float gForce = hub.getAccelMagnitudeG();
+            if (gForce > SHAKE_THRESHOLD_GRAVITY) {
+                long now = System.currentTimeMillis();
+                if (now - lastShakeTime > SHAKE_DEBOUNCE_MS) {
+                    lastShakeTime = now;
+                    mainHandler.post(toggleFlashlight);
                 }
             }
-
-            if (!accelInitialized) {
-                System.arraycopy(event.values, 0, filteredAccel, 0, filteredAccel.length);
-                accelInitialized = true;
-            } else {
-                applyLowPass(event.values, filteredAccel, ACCEL_ALPHA);
-            }
-            System.arraycopy(filteredAccel, 0, accelReading, 0, accelReading.length);
-            hasAccel = true;
-            updateTiltAndCompass();
-        } else if (type == Sensor.TYPE_MAGNETIC_FIELD) {
-            if (!magInitialized) {
-                System.arraycopy(event.values, 0, filteredMag, 0, filteredMag.length);
-                magInitialized = true;
-            } else {
-                applyLowPass(event.values, filteredMag, MAG_ALPHA);
-            }
-            System.arraycopy(filteredMag, 0, magnetReading, 0, magnetReading.length);
-            hasMag = true;
-            updateTiltAndCompass();
+        }
+        // While the device is still the hub keeps the reading frozen
+        if (!hub.isStill()) {
+            sensorUiUpdate.requestUpdate();
         }
     }
 
-    @Override
-    public void onAccuracyChanged(Sensor sensor, int accuracy) {
-        // No action needed
-    }
-
-    private void updateTiltAndCompass() {
-        if (!showCompass && hasAccel) {
-            float ax = accelReading[0];
-            float ay = accelReading[1];
-            float g = SensorManager.GRAVITY_EARTH;
-            float normX = ax / g;
-            float normY = ay / g;
-
-            if (normX > 1f) normX = 1f;
-            if (normX < -1f) normX = -1f;
-            if (normY > 1f) normY = 1f;
-            if (normY < -1f) normY = -1f;
-
-            if (!tiltInitialized) {
-                smoothNormX = normX;
-                smoothNormY = normY;
-                tiltInitialized = true;
-            } else {
-                smoothNormX += TILT_ALPHA * (normX - smoothNormX);
-                smoothNormY += TILT_ALPHA * (normY - smoothNormY);
-            }
-
-            // Offsets in degrees -> convert to sine for "normalized" offset
-            float offsetPitchNorm = (float) Math.sin(Math.toRadians(pitchOffsetDeg));
-            float offsetRollNorm = (float) Math.sin(Math.toRadians(rollOffsetDeg));
-
-            float adjustedX = clampUnit(smoothNormX - offsetRollNorm);
-            float adjustedY = clampUnit(smoothNormY - offsetPitchNorm);
-
+    // Runs on the main thread with the newest reading, at most once per frame
+    private void applySensorReading() {
+        sensorHub.read(uiReading);
+        if (!showCompass && uiReading.hasTilt) {
             if (levelView != null) {
-                levelView.setTilt(adjustedX, adjustedY);
+                levelView.setTilt(uiReading.adjustedX, uiReading.adjustedY);
             }
-
-            double pitchDeg = -Math.asin(adjustedY) * 180.0 / Math.PI;
-            double rollDeg = Math.asin(adjustedX) * 180.0 / Math.PI;
-
-            if (textTilt != null) {
-                String tiltText = String.format(
-                        Locale.getDefault(),
-                        getString(R.string.tilt_format),
-                        pitchDeg,
-                        rollDeg
-                );
-                textTilt.setText(tiltText);
+            // Skip relayout when the readout is unchanged at its one-decimal resolution
+            if (textTilt != null && tiltFormatter.update(uiReading.pitchDeg, uiReading.rollDeg)) {
+                textTilt.setText(tiltFormatter.chars(), 0, tiltFormatter.length());
             }
-        }
-
-        if (showCompass && hasAccel && hasMag && compassView != null) {
-            float[] rotationMatrix = new float[9];
-            float[] inclinationMatrix = new float[9];
-            boolean success = SensorManager.getRotationMatrix(rotationMatrix, inclinationMatrix, accelReading, magnetReading);
-            if (success) {
-                float[] orientation = new float[3];
-                SensorManager.getOrientation(rotationMatrix, orientation);
-                float azimuthRad = orientation[0];
-                float azimuthDeg = (float) Math.toDegrees(azimuthRad);
-                if (azimuthDeg < 0) {
-                    azimuthDeg += 360;
-                }
-                if (Float.isNaN(smoothedAzimuthDeg)) {
-                    smoothedAzimuthDeg = azimuthDeg;
-                } else {
-                    float delta = azimuthDeg - smoothedAzimuthDeg;
-                    delta = (delta + 540f) % 360f - 180f; // shortest path around circle
-                    smoothedAzimuthDeg += AZIMUTH_ALPHA * delta;
-                    if (smoothedAzimuthDeg < 0) {
-                        smoothedAzimuthDeg += 360f;
-                    } else if (smoothedAzimuthDeg >= 360f) {
-                        smoothedAzimuthDeg -= 360f;
-                    }
-                }
-                float displayHeading = smoothedAzimuthDeg;
-                compassView.setDirection(displayHeading);
-                if (textTilt != null) {
-                    String headingText = String.format(
-                            Locale.getDefault(),
-                            getString(R.string.heading_format),
-                            displayHeading
-                    );
-                    textTilt.setText(headingText);
-                }
+        } else if (showCompass && uiReading.hasHeading && compassView != null) {
+            compassView.setDirection(uiReading.headingDeg);
+            if (textTilt != null && headingFormatter.update(uiReading.headingDeg)) {
+                textTilt.setText(headingFormatter.chars(), 0, headingFormatter.length());
             }
         }
     }
 
-
+    // Shake detection fires on the sensor thread; the switch listener does the actual toggle
+    private final Runnable toggleFlashlight = () -> switchFlashlight.setChecked(!flashlightOn);
 
     private void applyNightMode() {
         if (levelView != null) {
@@ -1197,12 +1035,6 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
         if (weatherCredit != null) weatherCredit.setTextColor(mainTextColor);
     }
 
-    private void applyLowPass(float[] input, float[] output, float alpha) {
-        for (int i = 0; i < input.length; i++) {
-            output[i] += alpha * (input[i] - output[i]);
-        }
-    }
-
     private void requestSingleLocation(final boolean forWeather) {
         cancelPendingLocationRequests();
 
@@ -1327,10 +1159,4 @@ public class MainActivity extends AppCompatActivity implements SensorEventListen
             updateElevation(location);
         }
     }
-
-    private float clampUnit(float value) {
-        if (value > 1f) return 1f;
-        if (value < -1f) return -1f;
-        return value;
-    }
 }
@@ -1,11 +1,6 @@
 package com.campertools.app;
 
-import android.content.Context;
 import android.content.Intent;
-import android.hardware.Sensor;
-import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
-import android.hardware.SensorManager;
 import android.os.Bundle;
 import android.view.View;
 import android.view.WindowManager;
@@ -21,19 +16,20 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
+import com.campertools.app.level.TiltMath;
+import com.campertools.app.level.TiltReading;
+import com.campertools.app.sensor.SensorHub;
 import com.google.android.material.switchmaterial.SwitchMaterial;
 
 import java.util.Locale;
 
-public class SettingsActivity extends AppCompatActivity implements SensorEventListener {
+public class SettingsActivity extends AppCompatActivity {
 
     public static final String EXTRA_PITCH_OFFSET_DEG = "pitchOffsetDeg";
     public static final String EXTRA_ROLL_OFFSET_DEG = "rollOffsetDeg";
     public static final String EXTRA_USE_IMPERIAL = "useImperial";
     public static final String EXTRA_USE_NIGHT_MODE = "useNightMode";
 
-    private static final float ALPHA = 0.1f; // Filter factor
-
     private TextView textLevelHeader;
     private TextView textPitchLabel;
     private TextView textRollLabel;
@@ -48,10 +44,10 @@ public class SettingsActivity extends AppCompatActivity implements SensorEventLi
     private boolean useImperial = false;
     private boolean useNightMode = false;
 
-    private SensorManager sensorManager;
-    private Sensor accelerometer;
-    private final float[] gravity = new float[3];
-    private boolean hasGravity = false;
+    // The shared hub is usually already converged from the level screen
+    private SensorHub sensorHub;
+    private final SensorHub.Listener sensorListener = hub -> { };
+    private final TiltReading reading = new TiltReading();
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -78,10 +74,7 @@ public class SettingsActivity extends AppCompatActivity implements SensorEventLi
         buttonBack = findViewById(R.id.buttonBack);
         textHelpLink = findViewById(R.id.textHelpLink);
 
-        sensorManager = (SensorManager) getSystemService(Context.SENSOR_SERVICE);
-        if (sensorManager != null) {
-            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
-        }
+        sensorHub = SensorHub.get(this);
 
         Intent intent = getIntent();
         float pitchDeg = intent.getFloatExtra(EXTRA_PITCH_OFFSET_DEG, 0f);
@@ -200,73 +193,27 @@ public class SettingsActivity extends AppCompatActivity implements SensorEventLi
     @Override
     protected void onResume() {
         super.onResume();
-        if (sensorManager != null && accelerometer != null) {
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_UI);
-        }
+        sensorHub.subscribe(SensorHub.TILT, sensorListener);
     }
 
     @Override
     protected void onPause() {
         super.onPause();
-        if (sensorManager != null) {
-            sensorManager.unregisterListener(this);
-        }
-    }
-
-    @Override
-    public void onSensorChanged(SensorEvent event) {
-        if (event.sensor.getType() == Sensor.TYPE_ACCELEROMETER) {
-            if (!hasGravity) {
-                System.arraycopy(event.values, 0, gravity, 0, 3);
-                hasGravity = true;
-            } else {
-                // Low-pass filter
-                gravity[0] = ALPHA * event.values[0] + (1 - ALPHA) * gravity[0];
-                gravity[1] = ALPHA * event.values[1] + (1 - ALPHA) * gravity[1];
-                gravity[2] = ALPHA * event.values[2] + (1 - ALPHA) * gravity[2];
-            }
-        }
-    }
-
-    @Override
-    public void onAccuracyChanged(Sensor sensor, int accuracy) {
-        // Not used
+        sensorHub.unsubscribe(sensorListener);
     }
 
     private void performAutoCalibration() {
-        if (!hasGravity) {
+        // Same filtered gravity the level screen shows, already clamped to [-1, 1]
+        if (!sensorHub.read(reading)) {
             Toast.makeText(this, R.string.waiting_for_sensor_data, Toast.LENGTH_SHORT).show();
             return;
         }
+        float normX = reading.smoothNormX; // Roll component
+        float normY = reading.smoothNormY; // Pitch component
 
-        float g = SensorManager.GRAVITY_EARTH;
-        float normX = gravity[0] / g; // Roll component
-        float normY = gravity[1] / g; // Pitch component
-
-        // Clamp
-        if (normX > 1f) normX = 1f;
-        if (normX < -1f) normX = -1f;
-        if (normY > 1f) normY = 1f;
-        if (normY < -1f) normY = -1f;
-
-        // Calculate angle in degrees
-        // pitch = -asin(normY) in MainActivity logic, so we offset by that amount?
-        // If current reading is +5 deg, we want offset to be +5 deg so result is 0.
-        
-        // MainActivity: double pitchDeg = -Math.asin(adjustedY) * 180.0 / Math.PI;
-        // adjustedY = normY - offset;
-        // We want adjustedY = 0 => offset = normY.
-        // So offset_sine = normY.
-        // offset_deg = asin(normY) * 180 / PI.
-        // BUT wait, MainActivity pitch is NEGATIVE asin.
-        // Let's stick to the convention: "Pitch Offset" means the value we subtract from the reading?
-        // Or the value of the current tilt?
-        // If we want "Auto Calibrate", we want the current tilt to become "Zero".
-        // Current Pitch (deg) = -asin(normY) * 180/PI.
-        // If we want this to be the new zero, we should store this value as the offset.
-        
-        double pitchDeg = -Math.asin(normY) * 180.0 / Math.PI;
-        double rollDeg = Math.asin(normX) * 180.0 / Math.PI;
+        // The current tilt becomes the new zero
+        double pitchDeg = TiltMath.pitchDeg(normY);
+        double rollDeg = TiltMath.rollDeg(normX);
 
         inputPitchOffset.setText(String.format(Locale.getDefault(), "%.1f", pitchDeg));
         inputRollOffset.setText(String.format(Locale.getDefault(), "%.1f", rollDeg));
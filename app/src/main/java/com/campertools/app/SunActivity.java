@@ -13,21 +13,39 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import com.campertools.app.weather.OpenMeteoClient;
+import com.campertools.app.weather.DailyProjection;
+import com.campertools.app.weather.ForecastFrame;
+import com.campertools.app.weather.ForecastRequest;
+import com.campertools.app.weather.HourlyWindows;
+import com.campertools.app.weather.UnitSystem;
 import com.campertools.app.weather.WeatherUnits;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
 
 public class SunActivity extends AppCompatActivity {
 
+    // Today plus the three forecast days, and the rolling 24h sunshine and cloud window
+    private static final ForecastRequest SUN_REQUEST = new ForecastRequest.Builder()
+            .hourly(ForecastRequest.HOURLY_CLOUD_COVER
+                    | ForecastRequest.HOURLY_SUNSHINE
+                    | ForecastRequest.HOURLY_IS_DAY)
+            .hours(24)
+            .daily(ForecastRequest.DAILY_SUNRISE
+                    | ForecastRequest.DAILY_SUNSET
+                    | ForecastRequest.DAILY_WIND_GUSTS_MAX
+                    | ForecastRequest.DAILY_TEMPERATURE_MAX
+                    | ForecastRequest.DAILY_TEMPERATURE_MIN
+                    | ForecastRequest.DAILY_PRECIPITATION_SUM
+                    | ForecastRequest.DAILY_WIND_DIRECTION_DOMINANT
+                    | ForecastRequest.DAILY_WEATHER_CODE)
+            .days(4)
+            .build();
+
     private TextView textSunrise;
     private TextView textSunset;
     private TextView textWindGusts;
@@ -45,11 +63,11 @@ public class SunActivity extends AppCompatActivity {
     private TextView[] dayPrecips = new TextView[3];
     private TextView[] dayWinds = new TextView[3];
 
-    private static String lastJsonSunData;
+    private final DailyProjection daily = new DailyProjection();
+
     private boolean useImperial = false;
     private boolean useNightMode = false;
-    private final ExecutorService networkExecutor = Executors.newSingleThreadExecutor();
-    private Future<?> pendingSunTask;
+    private ForecastRepository forecastRepository;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -67,6 +85,8 @@ public class SunActivity extends AppCompatActivity {
         useImperial = prefs.getBoolean(AppPrefs.PREF_USE_IMPERIAL, false);
         useNightMode = prefs.getBoolean(AppPrefs.PREF_USE_NIGHT_MODE, false);
 
+        forecastRepository = ForecastRepository.get(this);
+
         textWeatherHeader = findViewById(R.id.textWeatherHeader);
         textSunrise = findViewById(R.id.textSunrise);
         textSunset = findViewById(R.id.textSunset);
@@ -98,235 +118,160 @@ public class SunActivity extends AppCompatActivity {
 
         textBack.setOnClickListener(v -> finish());
 
-        if (getIntent().hasExtra(AppExtras.EXTRA_WEATHER_JSON)) {
-            String json = getIntent().getStringExtra(AppExtras.EXTRA_WEATHER_JSON);
-            parseAndDisplaySunData(json);
-        } else if (lastJsonSunData != null) {
-            parseAndDisplaySunData(lastJsonSunData);
+        forecastRepository.addObserver(SUN_REQUEST, forecastObserver);
+        Location cachedLocation = MainActivity.cachedLocation;
+        if (cachedLocation != null) {
+            fetchSunData(cachedLocation);
         } else {
-            Location cachedLocation = MainActivity.cachedLocation;
-            if (cachedLocation != null) {
-                fetchSunData(cachedLocation);
-            } else {
-                textSunStatus.setText(R.string.no_location_fix);
-            }
+            textSunStatus.setText(R.string.no_location_fix);
         }
     }
 
     private void fetchSunData(Location location) {
-        textSunStatus.setText(getString(R.string.fetching_weather));
-        if (pendingSunTask != null) {
-            pendingSunTask.cancel(true);
+        ForecastFrame latest = forecastRepository.latest(
+                SUN_REQUEST, location.getLatitude(), location.getLongitude());
+        if (latest != null) {
+            displaySunData(latest);
+        } else {
+            textSunStatus.setText(getString(R.string.fetching_weather));
         }
-        pendingSunTask = networkExecutor.submit(() -> {
-            try {
-                final String json = OpenMeteoClient.fetchForecastJson(
-                        location.getLatitude(),
-                        location.getLongitude()
-                );
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
-                }
+        forecastRepository.refresh(SUN_REQUEST, location.getLatitude(), location.getLongitude());
+    }
 
-                runOnUiThread(() -> {
-                    if (isFinishing() || isDestroyed()) return;
-                    parseAndDisplaySunData(json);
-                });
+    private final ForecastRepository.Observer forecastObserver = new ForecastRepository.Observer() {
+        @Override
+        public void onForecast(ForecastFrame forecast, boolean stale) {
+            displaySunData(forecast);
+        }
 
-            } catch (Exception e) {
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
-                }
-                runOnUiThread(() -> {
-                    if (isFinishing() || isDestroyed()) return;
-                    textSunStatus.setText(getString(R.string.error_fetching_weather));
-                });
-            }
-        });
-    }
+        @Override
+        public void onForecastError(IOException error) {
+            textSunStatus.setText(getString(R.string.error_fetching_weather));
+        }
+    };
 
-    private void parseAndDisplaySunData(String json) {
+    private void displaySunData(ForecastFrame forecast) {
         try {
-            lastJsonSunData = json;
-            JSONObject root = new JSONObject(json);
-            
+            daily.project(forecast, UnitSystem.of(useImperial));
+
             // Daily Data
-            JSONObject daily = root.getJSONObject("daily");
-            JSONArray sunriseArray = daily.getJSONArray("sunrise");
-            JSONArray sunsetArray = daily.getJSONArray("sunset");
-            JSONArray windGustsArray = daily.optJSONArray("windgusts_10m_max");
-            
+            long[] sunriseArray = forecast.dailySunrise;
+            long[] sunsetArray = forecast.dailySunset;
+            double[] windGustsArray = forecast.dailyWindGustsMaxKmh;
+
             // Forecast Data Arrays
-            JSONArray tempMaxArray = daily.optJSONArray("temperature_2m_max");
-            JSONArray tempMinArray = daily.optJSONArray("temperature_2m_min");
-            JSONArray precipSumArray = daily.optJSONArray("precipitation_sum");
-            JSONArray windDirArray = daily.optJSONArray("winddirection_10m_dominant");
-            JSONArray timeArray = daily.optJSONArray("time");
+            double[] tempMaxArray = forecast.dailyTemperatureMaxC;
+            double[] tempMinArray = forecast.dailyTemperatureMinC;
+            double[] precipSumArray = forecast.dailyPrecipitationSumMm;
+            long[] timeArray = forecast.dailyTime;
+            int[] weatherCodeArray = forecast.dailyWeatherCode;
 
             // Hourly Data
-            JSONObject hourly = root.getJSONObject("hourly");
-            JSONArray cloudCoverArray = hourly.optJSONArray("cloudcover");
-            JSONArray sunshineHourlyArray = hourly.optJSONArray("sunshine_duration");
-            JSONArray isDayArray = hourly.optJSONArray("is_day");
-
-            if (sunriseArray.length() > 0 && sunsetArray.length() > 0) {
-                String sunriseISO = sunriseArray.getString(0);
-                String sunsetISO = sunsetArray.getString(0);
+            double[] sunshineHourlyArray = forecast.hourlySunshineSeconds;
+            int[] isDayArray = forecast.hourlyIsDay;
 
-                SimpleDateFormat isoFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.getDefault());
-                Date sunriseDate = isoFormat.parse(sunriseISO);
-                Date sunsetDate = isoFormat.parse(sunsetISO);
+            if (sunriseArray != null && sunsetArray != null
+                    && sunriseArray.length > 0 && sunsetArray.length > 0
+                    && sunriseArray[0] != ForecastFrame.MISSING_TIME && sunsetArray[0] != ForecastFrame.MISSING_TIME) {
+                // Times are shown in the forecast location's zone, as the API reported them
+                TimeZone forecastZone = new SimpleTimeZone(forecast.utcOffsetSeconds * 1000, "forecast");
 
                 String timePattern = useImperial ? "h:mm a" : "HH:mm";
                 SimpleDateFormat timeFormat = new SimpleDateFormat(timePattern, Locale.getDefault());
-                textSunrise.setText(String.format(getString(R.string.sunrise_label), timeFormat.format(sunriseDate)));
-                textSunset.setText(String.format(getString(R.string.sunset_label), timeFormat.format(sunsetDate)));
+                timeFormat.setTimeZone(forecastZone);
+                textSunrise.setText(String.format(getString(R.string.sunrise_label),
+                        timeFormat.format(new Date(sunriseArray[0] * 1000L))));
+                textSunset.setText(String.format(getString(R.string.sunset_label),
+                        timeFormat.format(new Date(sunsetArray[0] * 1000L))));
                 textSunStatus.setText("");
                 
                 // Wind Gusts
-                if (windGustsArray != null && windGustsArray.length() > 0) {
-                    double maxGustKmh = windGustsArray.getDouble(0);
-                    String dir = "";
-                    if (windDirArray != null && windDirArray.length() > 0) {
-                        dir = getCardinalDirection(windDirArray.getDouble(0));
-                    }
-                    
-                    if (useImperial) {
-                        // km/h to mph
-                        double maxGustMph = maxGustKmh * 0.621371;
-                        textWindGusts.setText(String.format(Locale.getDefault(), getString(R.string.max_gusts_format_imperial), maxGustMph, dir));
-                    } else {
-                        textWindGusts.setText(String.format(Locale.getDefault(), getString(R.string.max_gusts_format_metric), maxGustKmh, dir));
+                if (windGustsArray != null && daily.dayCount() > 0) {
+                    String dir = daily.windDirection(0);
+                    if (dir == null) {
+                        dir = "";
                     }
+                    int format = useImperial ? R.string.max_gusts_format_imperial : R.string.max_gusts_format_metric;
+                    textWindGusts.setText(String.format(Locale.getDefault(), getString(format), daily.windGustMax(0), dir));
                 }
 
-                // Calculate rolling 24h indices
-                java.util.Calendar calendar = java.util.Calendar.getInstance();
-                int currentHourIndex = calendar.get(java.util.Calendar.HOUR_OF_DAY);
-                
-                // Sunshine Duration (Rolling 24h)
-                if (sunshineHourlyArray != null && isDayArray != null) {
-                    double totalSunshineSeconds = 0;
-                    double totalDaylightSeconds = 0;
-                    
-                    int maxIndex = Math.min(sunshineHourlyArray.length(), isDayArray.length());
-                    int loopCount = Math.min(24, maxIndex - currentHourIndex);
-
-                    for (int i = 0; i < loopCount; i++) {
-                        int idx = currentHourIndex + i;
-                        totalSunshineSeconds += sunshineHourlyArray.getDouble(idx);
-                        if (isDayArray.getInt(idx) == 1) {
-                            totalDaylightSeconds += 3600.0;
+                // Rolling 24h window from the slot that contains now on the response's time axis
+                int currentHourIndex = forecast.hourIndexAt(System.currentTimeMillis() / 1000L);
+                if (currentHourIndex >= 0) {
+                    int windowEnd = currentHourIndex + 24;
+                    HourlyWindows windows = forecast.hourlyWindows();
+
+                    // Sunshine Duration (Rolling 24h)
+                    if (sunshineHourlyArray != null && isDayArray != null) {
+                        double totalSunshineSeconds = windows.sunshineSeconds(currentHourIndex, windowEnd);
+                        double totalDaylightSeconds = windows.daylightHours(currentHourIndex, windowEnd) * 3600.0;
+
+                        double sunshineHours = totalSunshineSeconds / 3600.0;
+                        double percent = 0;
+                        if (totalDaylightSeconds > 0) {
+                            percent = (totalSunshineSeconds / totalDaylightSeconds) * 100.0;
+                            if (percent > 100) percent = 100;
                         }
-                    }
-                    
-                    double sunshineHours = totalSunshineSeconds / 3600.0;
-                    double percent = 0;
-                    if (totalDaylightSeconds > 0) {
-                        percent = (totalSunshineSeconds / totalDaylightSeconds) * 100.0;
-                        if (percent > 100) percent = 100;
-                    }
 
-                    textSunshine.setText(String.format(Locale.getDefault(), getString(R.string.sunshine_rolling_format), sunshineHours, percent));
-                }
+                        textSunshine.setText(String.format(Locale.getDefault(), getString(R.string.sunshine_rolling_format), sunshineHours, percent));
+                    }
 
-                // Cloud Cover (Avg next 24h)
-                if (cloudCoverArray != null && cloudCoverArray.length() > 0) {
-                    double sumCloud = 0;
-                    int maxIndex = cloudCoverArray.length();
-                    int loopCount = Math.min(24, maxIndex - currentHourIndex);
-                    
-                    if (loopCount > 0) {
-                        for (int i = 0; i < loopCount; i++) {
-                            int idx = currentHourIndex + i;
-                            sumCloud += cloudCoverArray.getDouble(idx);
-                        }
-                        double avgCloud = sumCloud / loopCount;
+                    // Cloud Cover (Avg next 24h)
+                    double avgCloud = windows.meanCloudCover(currentHourIndex, windowEnd);
+                    if (!Double.isNaN(avgCloud)) {
                         textCloudCover.setText(String.format(Locale.getDefault(), getString(R.string.cloud_cover_format), avgCloud));
                     }
                 }
-                
+
                 // Forecast Population
                 if (timeArray != null) {
                     SimpleDateFormat dayFormat = new SimpleDateFormat("EEE, MMM d", Locale.getDefault());
-                    SimpleDateFormat inputDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
+                    dayFormat.setTimeZone(forecastZone);
+                    String[] conditions = getResources().getStringArray(R.array.weather_conditions);
 
                     for (int i = 0; i < 3; i++) {
                         int dataIdx = i + 1; // Start from index 1 (Tomorrow)
-                        if (dataIdx >= timeArray.length()) break;
+                        if (dataIdx >= timeArray.length) break;
                         
-                        // Date
-                        String dateStr = timeArray.getString(dataIdx);
-                        try {
-                            Date d = inputDateFormat.parse(dateStr);
-                            dayDates[i].setText(dayFormat.format(d));
-                        } catch (Exception e) {
-                            dayDates[i].setText(dateStr);
+                        // Date and condition
+                        String date = dayFormat.format(new Date(timeArray[dataIdx] * 1000L));
+                        if (weatherCodeArray != null && dataIdx < weatherCodeArray.length) {
+                            int icon = WeatherUnits.weatherIcon(WeatherUnits.weatherCodeInfo(weatherCodeArray[dataIdx]));
+                            if (icon != WeatherUnits.WMO_ICON_UNKNOWN) {
+                                date = getString(R.string.forecast_date_condition, date, conditions[icon]);
+                            }
                         }
+                        dayDates[i].setText(date);
 
                         // Temp
-                        if (tempMaxArray != null && tempMinArray != null && dataIdx < tempMaxArray.length()) {
-                            double min = tempMinArray.getDouble(dataIdx);
-                            double max = tempMaxArray.getDouble(dataIdx);
-                            if (useImperial) {
-                                min = WeatherUnits.celsiusToFahrenheit(min);
-                                max = WeatherUnits.celsiusToFahrenheit(max);
-                                dayTemps[i].setText(String.format(
-                                        Locale.getDefault(),
-                                        getString(R.string.forecast_temp_imperial),
-                                        min,
-                                        max
-                                ));
-                            } else {
-                                dayTemps[i].setText(String.format(
-                                        Locale.getDefault(),
-                                        getString(R.string.forecast_temp_metric),
-                                        min,
-                                        max
-                                ));
-                            }
+                        if (tempMaxArray != null && tempMinArray != null) {
+                            dayTemps[i].setText(String.format(
+                                    Locale.getDefault(),
+                                    getString(useImperial ? R.string.forecast_temp_imperial : R.string.forecast_temp_metric),
+                                    daily.temperatureMin(dataIdx),
+                                    daily.temperatureMax(dataIdx)
+                            ));
                         }
 
                         // Precip
-                        if (precipSumArray != null && dataIdx < precipSumArray.length()) {
-                            double p = precipSumArray.getDouble(dataIdx);
-                            if (useImperial) {
-                                dayPrecips[i].setText(String.format(
-                                        Locale.getDefault(),
-                                        getString(R.string.forecast_precip_imperial),
-                                        WeatherUnits.mmToInches(p)
-                                ));
-                            } else {
-                                dayPrecips[i].setText(String.format(
-                                        Locale.getDefault(),
-                                        getString(R.string.forecast_precip_metric),
-                                        p
-                                ));
-                            }
+                        if (precipSumArray != null) {
+                            dayPrecips[i].setText(String.format(
+                                    Locale.getDefault(),
+                                    getString(useImperial ? R.string.forecast_precip_imperial : R.string.forecast_precip_metric),
+                                    daily.precipitation(dataIdx)
+                            ));
                         }
 
                         // Wind
-                        if (windDirArray != null && dataIdx < windDirArray.length()) {
-                            double w = windDirArray.getDouble(dataIdx);
-                            String dir = getCardinalDirection(w);
-                            
-                            if (windGustsArray != null && dataIdx < windGustsArray.length()) {
-                                double maxGustKmh = windGustsArray.getDouble(dataIdx);
-                                if (useImperial) {
-                                    dayWinds[i].setText(String.format(
-                                            Locale.getDefault(),
-                                            getString(R.string.forecast_wind_imperial),
-                                            WeatherUnits.kmhToMph(maxGustKmh),
-                                            dir
-                                    ));
-                                } else {
-                                    dayWinds[i].setText(String.format(
-                                            Locale.getDefault(),
-                                            getString(R.string.forecast_wind_metric),
-                                            maxGustKmh,
-                                            dir
-                                    ));
-                                }
+                        String dir = daily.windDirection(dataIdx);
+                        if (dir != null) {
+                            if (windGustsArray != null) {
+                                dayWinds[i].setText(String.format(
+                                        Locale.getDefault(),
+                                        getString(useImperial ? R.string.forecast_wind_imperial : R.string.forecast_wind_metric),
+                                        daily.windGustMax(dataIdx),
+                                        dir
+                                ));
                             } else {
                                 dayWinds[i].setText(String.format(
                                         Locale.getDefault(),
@@ -344,18 +289,10 @@ public class SunActivity extends AppCompatActivity {
         }
     }
 
-    private String getCardinalDirection(double deg) {
-        return WeatherUnits.cardinalDirection(deg);
-    }
-
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (pendingSunTask != null) {
-            pendingSunTask.cancel(true);
-            pendingSunTask = null;
-        }
-        networkExecutor.shutdownNow();
+        forecastRepository.removeObserver(forecastObserver);
     }
 
     private void applyNightMode() {
@@ -1,11 +1,6 @@
 package com.campertools.app;
 
-import android.content.Context;
 import android.content.SharedPreferences;
-import android.hardware.Sensor;
-import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
-import android.hardware.SensorManager;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -24,23 +19,81 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import java.util.Locale;
+import com.campertools.app.level.BlockInventory;
+import com.campertools.app.level.BlockSolver;
+import com.campertools.app.level.LevelingSolver;
+import com.campertools.app.level.SupportLayout;
+import com.campertools.app.level.TiltMath;
+import com.campertools.app.level.TiltMeasurement;
+import com.campertools.app.level.TiltProcessor;
+import com.campertools.app.level.TiltReading;
+import com.campertools.app.sensor.SensorHub;
+import com.campertools.app.sensor.UiUpdateCoalescer;
+import com.google.android.material.switchmaterial.SwitchMaterial;
 
-public class WheelAdjustActivity extends AppCompatActivity implements SensorEventListener {
+import java.util.Locale;
 
-    private static final long MEASURE_DURATION_MS = 2_000L;
+public class WheelAdjustActivity extends AppCompatActivity {
+
+    // A measurement ends once the shims are known to display resolution, but takes at least
+    // MIN and at most MAX; a windy site keeps it running until MAX
+    private static final long MIN_MEASURE_MS = 500L;
+    private static final long MAX_MEASURE_MS = 8_000L;
+    private static final double SHIM_RESOLUTION = 0.1;
+    // Used when no dimensions are entered yet: about 0.05°
+    private static final double DEFAULT_TOLERANCE = 0.001;
+    // Wheels other than the one to raise are dimmed in live mode
+    private static final float DIMMED_ALPHA = 0.4f;
+    private static final int FL = 0, FR = 1, BL = 2, BR = 3;
+    // Diagram slot of each support group; the trailers show their jack in the front left slot
+    private static final int[] VEHICLE_SLOTS = {FL, FR, BL, BR};
+    private static final int[] TRAILER_SLOTS = {FL, BL, BR};
 
     private EditText inputWheelbase;
     private EditText inputTrackWidth;
+    private EditText inputBlocks;
+    private EditText inputAxleSpacing;
+    private View rowAxleSpacing;
+    private TextView textVehicleType, labelAxleSpacing;
     private TextView textFLValue, textFRValue, textBLValue, textBRValue;
+    private TextView[] wheelValues;
+    private View[] wheelContainers;
+    private TextView[] wheelBlocks;
+    private TextView labelBlocks, textBlocksResidual;
     private TextView labelFL, labelFR, labelBL, labelBR;
     private TextView textHeader, textClose, textPhoneTopLabel;
     private TextView labelWheelbase, labelTrackWidth;
     private TextView textChassisFront, textChassisArrow;
     private Button buttonRecalculate;
-
-    private SensorManager sensorManager;
-    private Sensor accelerometer;
+    private SwitchMaterial switchLive;
+
+    private SensorHub sensorHub;
+    private final SensorHub.Listener sensorListener = this::onSensorSample;
+    private final TiltReading reading = new TiltReading();
+    // Sensor thread only
+    private final float[] rawSample = new float[3];
+    private final UiUpdateCoalescer liveUpdate = new UiUpdateCoalescer(this::applyLiveReading);
+    private volatile boolean liveMode = false;
+
+    // Last shown shim and margin per wheel in tenths, so unchanged text is not reformatted
+    private final long[] shownTenths = new long[4];
+    private final long[] shownErrorTenths = new long[4];
+    private int highlightedWheel = -1;
+
+    private int vehicleType = SupportLayout.VAN;
+    private LevelingSolver levelingSolver;
+    private int[] groupSlots = VEHICLE_SLOTS;
+    // Groups that take blocks, in the order the block solver sees them
+    private int[] blockGroups;
+
+    // Null while no blocks are entered
+    private BlockInventory inventory;
+    private BlockSolver blockSolver;
+    private double[] shims;
+    // Last shown stack per wheel and residual in tenths, for the same reason as shownTenths
+    private int[][] shownBlocks;
+    private long shownResidualTenths = Long.MIN_VALUE;
+    private final StringBuilder stackText = new StringBuilder();
 
     private float pitchOffsetDeg = 0f;
     private float rollOffsetDeg = 0f;
@@ -49,16 +102,22 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
 
     private float wheelbase = 0f;
     private float trackWidth = 0f;
+    private float axleSpacing = 0f;
 
-    // Measurement State
+    // Measurement State. The measurement is fed on the sensor thread under sampleLock.
     private boolean isMeasuring = false;
-    private double accX = 0;
-    private double accY = 0;
-    private int sampleCount = 0;
+    private final Object sampleLock = new Object();
+    private boolean collecting = false;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private final TiltMeasurement measurement = new TiltMeasurement(MIN_MEASURE_MS);
+    private final Runnable convergedRunnable = this::stopMeasurement;
     
     // Locked Values (Normalized -1..1)
     private float lockedNormX = 0f;
     private float lockedNormY = 0f;
+    // 95% confidence half-widths of the locked values, NaN when they are a single reading
+    private double lockedHalfWidthX = Double.NaN;
+    private double lockedHalfWidthY = Double.NaN;
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private final Runnable stopMeasurementRunnable = this::stopMeasurement;
 
@@ -77,6 +136,13 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
 
         inputWheelbase = findViewById(R.id.inputWheelbase);
         inputTrackWidth = findViewById(R.id.inputTrackWidth);
+        inputBlocks = findViewById(R.id.inputBlocks);
+        inputAxleSpacing = findViewById(R.id.inputAxleSpacing);
+        rowAxleSpacing = findViewById(R.id.rowAxleSpacing);
+        labelAxleSpacing = findViewById(R.id.labelAxleSpacing);
+        textVehicleType = findViewById(R.id.textVehicleType);
+        labelBlocks = findViewById(R.id.labelBlocks);
+        textBlocksResidual = findViewById(R.id.textBlocksResidual);
         
         textFLValue = findViewById(R.id.textFLValue);
         textFRValue = findViewById(R.id.textFRValue);
@@ -97,9 +163,30 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         labelWheelbase = findViewById(R.id.labelWheelbase);
         labelTrackWidth = findViewById(R.id.labelTrackWidth);
         buttonRecalculate = findViewById(R.id.buttonRecalculate);
+        switchLive = findViewById(R.id.switchLive);
+
+        wheelValues = new TextView[] {textFLValue, textFRValue, textBLValue, textBRValue};
+        wheelContainers = new View[] {
+                findViewById(R.id.containerFL), findViewById(R.id.containerFR),
+                findViewById(R.id.containerBL), findViewById(R.id.containerBR)
+        };
+        wheelBlocks = new TextView[] {
+                findViewById(R.id.textFLBlocks), findViewById(R.id.textFRBlocks),
+                findViewById(R.id.textBLBlocks), findViewById(R.id.textBRBlocks)
+        };
+        clearShownWheels();
 
         textClose.setOnClickListener(v -> finish());
         buttonRecalculate.setOnClickListener(v -> startMeasurement());
+        switchLive.setOnCheckedChangeListener((buttonView, isChecked) -> setLiveMode(isChecked));
+        textVehicleType.setOnClickListener(v -> {
+            vehicleType = (vehicleType + 1) % SupportLayout.PRESET_COUNT;
+            getSharedPreferences(AppPrefs.PREFS, MODE_PRIVATE).edit()
+                    .putInt(AppPrefs.PREF_VEHICLE_TYPE, vehicleType)
+                    .apply();
+            applyVehicleType();
+            calculateAdjustments(lockedNormX, lockedNormY);
+        });
 
         // Load Intent Extras
         if (getIntent() != null) {
@@ -115,9 +202,15 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         SharedPreferences prefs = getSharedPreferences(AppPrefs.PREFS, MODE_PRIVATE);
         wheelbase = prefs.getFloat(AppPrefs.PREF_WHEELBASE, 0f);
         trackWidth = prefs.getFloat(AppPrefs.PREF_TRACK_WIDTH, 0f);
+        axleSpacing = prefs.getFloat(AppPrefs.PREF_AXLE_SPACING, 0f);
+        vehicleType = prefs.getInt(AppPrefs.PREF_VEHICLE_TYPE, SupportLayout.VAN);
+        if (vehicleType < 0 || vehicleType >= SupportLayout.PRESET_COUNT) vehicleType = SupportLayout.VAN;
 
         if (wheelbase > 0) inputWheelbase.setText(String.format(Locale.US, "%.1f", wheelbase));
         if (trackWidth > 0) inputTrackWidth.setText(String.format(Locale.US, "%.1f", trackWidth));
+        if (axleSpacing > 0) inputAxleSpacing.setText(String.format(Locale.US, "%.1f", axleSpacing));
+        inputBlocks.setText(prefs.getString(AppPrefs.PREF_BLOCK_INVENTORY, ""));
+        applyVehicleType();
 
         // Listeners for inputs
         TextWatcher watcher = new TextWatcher() {
@@ -128,16 +221,29 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
             @Override
             public void afterTextChanged(Editable s) {
                 saveDimensions();
+                rebuildLayout();
                 calculateAdjustments(lockedNormX, lockedNormY);
             }
         };
         inputWheelbase.addTextChangedListener(watcher);
         inputTrackWidth.addTextChangedListener(watcher);
+        inputAxleSpacing.addTextChangedListener(watcher);
+        inputBlocks.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+            @Override
+            public void afterTextChanged(Editable s) {
+                getSharedPreferences(AppPrefs.PREFS, MODE_PRIVATE).edit()
+                        .putString(AppPrefs.PREF_BLOCK_INVENTORY, s.toString())
+                        .apply();
+                applyInventory();
+                calculateAdjustments(lockedNormX, lockedNormY);
+            }
+        });
 
-        sensorManager = (SensorManager) getSystemService(Context.SENSOR_SERVICE);
-        if (sensorManager != null) {
-            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
-        }
+        sensorHub = SensorHub.get(this);
 
         applyNightMode();
         applyUnits();
@@ -152,46 +258,158 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         buttonRecalculate.setEnabled(false);
         buttonRecalculate.setText(R.string.measuring);
         
-        accX = 0;
-        accY = 0;
-        sampleCount = 0;
-        
-        if (sensorManager != null && accelerometer != null) {
-            sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_UI);
+        // The hub's reading is already settled, so show it right away; the measurement refines it
+        if (sensorHub.read(reading)) {
+            lockedNormX = reading.smoothNormX;
+            lockedNormY = reading.smoothNormY;
+            lockedHalfWidthX = Double.NaN;
+            lockedHalfWidthY = Double.NaN;
+            calculateAdjustments(lockedNormX, lockedNormY);
+        }
+
+        // Tight enough that the largest shim is known to the displayed decimal
+        double span = Math.max(wheelbase, trackWidth);
+        synchronized (sampleLock) {
+            measurement.reset();
+            tolerance = span > 0 ? SHIM_RESOLUTION / (span * Math.sqrt(2)) : DEFAULT_TOLERANCE;
+            collecting = true;
         }
+        // A phone lying still is the measuring case; don't let the hub drop to its still rate
+        sensorHub.holdFullRate();
 
-        mainHandler.postDelayed(stopMeasurementRunnable, MEASURE_DURATION_MS);
+        mainHandler.postDelayed(stopMeasurementRunnable, MAX_MEASURE_MS);
     }
 
     private void stopMeasurement() {
-        if (sensorManager != null) {
-            sensorManager.unregisterListener(this);
-        }
-        
-        if (sampleCount > 0) {
-            // Average acceleration
-            double avgX = accX / sampleCount;
-            double avgY = accY / sampleCount;
-            
-            // Normalize
-            lockedNormX = (float) (avgX / SensorManager.GRAVITY_EARTH);
-            lockedNormY = (float) (avgY / SensorManager.GRAVITY_EARTH);
-            
-            calculateAdjustments(lockedNormX, lockedNormY);
+        if (!isMeasuring) return;
+        mainHandler.removeCallbacks(stopMeasurementRunnable);
+        mainHandler.removeCallbacks(convergedRunnable);
+        sensorHub.releaseFullRate();
+        synchronized (sampleLock) {
+            collecting = false;
+            if (measurement.count() >= 2) {
+                lockedNormX = (float) measurement.meanX();
+                lockedNormY = (float) measurement.meanY();
+                lockedHalfWidthX = measurement.halfWidthX();
+                lockedHalfWidthY = measurement.halfWidthY();
+            }
         }
+        calculateAdjustments(lockedNormX, lockedNormY);
         
         isMeasuring = false;
-        buttonRecalculate.setEnabled(true);
+        buttonRecalculate.setEnabled(!liveMode);
         buttonRecalculate.setText(R.string.recalculate_button);
     }
 
+    private void setLiveMode(boolean live) {
+        if (live) {
+            stopMeasurement();
+        }
+        liveMode = live;
+        buttonRecalculate.setEnabled(!live);
+        // Nobody is holding the phone while the jacks are turned
+        if (live) {
+            getWindow().addFlags(WindowManager.LayoutParams.FLAG_KEEP_SCREEN_ON);
+            sensorHub.wake();
+            liveUpdate.requestUpdate();
+        } else {
+            getWindow().clearFlags(WindowManager.LayoutParams.FLAG_KEEP_SCREEN_ON);
+            liveUpdate.cancel();
+            highlightWheel(-1);
+        }
+    }
+
+    // Runs once per frame while live samples arrive
+    private void applyLiveReading() {
+        if (!liveMode || !sensorHub.read(reading)) {
+            return;
+        }
+        lockedNormX = reading.smoothNormX;
+        lockedNormY = reading.smoothNormY;
+        lockedHalfWidthX = Double.NaN;
+        lockedHalfWidthY = Double.NaN;
+        calculateAdjustments(lockedNormX, lockedNormY);
+    }
+
+    private void applyInventory() {
+        inventory = null;
+        blockSolver = null;
+        BlockInventory parsed = null;
+        try {
+            parsed = BlockInventory.parse(inputBlocks.getText().toString());
+            inputBlocks.setError(null);
+        } catch (IllegalArgumentException e) {
+            inputBlocks.setError(getString(R.string.blocks_invalid));
+        }
+        if (parsed != null && !parsed.isEmpty()) {
+            blockSolver = new BlockSolver(parsed, blockGroups.length, SHIM_RESOLUTION);
+            inventory = parsed;
+        }
+
+        for (TextView view : wheelBlocks) {
+            view.setVisibility(View.GONE);
+        }
+        if (inventory != null) {
+            for (int group : blockGroups) {
+                wheelBlocks[groupSlots[group]].setVisibility(View.VISIBLE);
+            }
+        }
+        textBlocksResidual.setVisibility(inventory != null ? View.VISIBLE : View.GONE);
+        shownBlocks = inventory != null ? new int[blockGroups.length][inventory.typeCount()] : null;
+        if (shownBlocks != null) {
+            for (int[] stack : shownBlocks) {
+                stack[0] = -1;
+            }
+        }
+        shownResidualTenths = Long.MIN_VALUE;
+    }
+
+    // Switches the diagram, the solver and the block planning to the selected vehicle preset
+    private void applyVehicleType() {
+        boolean trailer = vehicleType == SupportLayout.TRAILER || vehicleType == SupportLayout.FIFTH_WHEEL;
+        groupSlots = trailer ? TRAILER_SLOTS : VEHICLE_SLOTS;
+        textVehicleType.setText(getString(R.string.vehicle_type,
+                getResources().getStringArray(R.array.vehicle_types)[vehicleType]));
+        rowAxleSpacing.setVisibility(SupportLayout.hasTandem(vehicleType) ? View.VISIBLE : View.GONE);
+        labelWheelbase.setText(trailer
+                ? (useImperial ? R.string.hitch_to_axle_label_inches : R.string.hitch_to_axle_label_cm)
+                : (useImperial ? R.string.wheelbase_label_inches : R.string.wheelbase_label_cm));
+
+        wheelContainers[FR].setVisibility(trailer ? View.INVISIBLE : View.VISIBLE);
+        labelFL.setText(trailer ? R.string.support_jack : R.string.wheel_fl);
+        labelBL.setText(trailer ? R.string.wheel_left : R.string.wheel_bl);
+        labelBR.setText(trailer ? R.string.wheel_right : R.string.wheel_br);
+
+        rebuildLayout();
+        applyInventory();
+        clearShownWheels();
+        highlightWheel(-1);
+    }
+
+    private void rebuildLayout() {
+        SupportLayout layout = SupportLayout.preset(vehicleType, wheelbase, trackWidth, axleSpacing);
+        levelingSolver = new LevelingSolver(layout);
+        int count = 0;
+        for (int g = 0; g < layout.groupCount(); g++) {
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) count++;
+        }
+        if (blockGroups == null || blockGroups.length != count) {
+            blockGroups = new int[count];
+            shims = new double[count];
+        }
+        count = 0;
+        for (int g = 0; g < layout.groupCount(); g++) {
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) blockGroups[count++] = g;
+        }
+    }
+
     private void applyUnits() {
         if (useImperial) {
-            labelWheelbase.setText(R.string.wheelbase_label_inches);
             labelTrackWidth.setText(R.string.track_width_label_inches);
+            labelAxleSpacing.setText(R.string.axle_spacing_label_inches);
         } else {
-            labelWheelbase.setText(R.string.wheelbase_label_cm);
             labelTrackWidth.setText(R.string.track_width_label_cm);
+            labelAxleSpacing.setText(R.string.axle_spacing_label_cm);
         }
     }
 
@@ -199,12 +417,15 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         try {
             String wbStr = inputWheelbase.getText().toString();
             String twStr = inputTrackWidth.getText().toString();
+            String asStr = inputAxleSpacing.getText().toString();
             if (!wbStr.isEmpty()) wheelbase = Float.parseFloat(wbStr);
             if (!twStr.isEmpty()) trackWidth = Float.parseFloat(twStr);
+            if (!asStr.isEmpty()) axleSpacing = Float.parseFloat(asStr);
 
             getSharedPreferences(AppPrefs.PREFS, MODE_PRIVATE).edit()
                     .putFloat(AppPrefs.PREF_WHEELBASE, wheelbase)
                     .putFloat(AppPrefs.PREF_TRACK_WIDTH, trackWidth)
+                    .putFloat(AppPrefs.PREF_AXLE_SPACING, axleSpacing)
                     .apply();
         } catch (NumberFormatException e) {
             // Ignore
@@ -214,76 +435,172 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
     @Override
     protected void onResume() {
         super.onResume();
-        // No automatic sensor registration
+        // Keeps the shared hub converged while this screen is open
+        sensorHub.subscribe(SensorHub.TILT, sensorListener);
+        if (liveMode) {
+            liveUpdate.requestUpdate();
+        }
     }
 
     @Override
     protected void onPause() {
         super.onPause();
-        if (sensorManager != null) {
-            sensorManager.unregisterListener(this);
+        sensorHub.unsubscribe(sensorListener);
+        liveUpdate.cancel();
+        synchronized (sampleLock) {
+            collecting = false;
         }
         mainHandler.removeCallbacks(stopMeasurementRunnable);
+        mainHandler.removeCallbacks(convergedRunnable);
+        if (isMeasuring) {
+            sensorHub.releaseFullRate();
+        }
         isMeasuring = false;
-        buttonRecalculate.setEnabled(true);
+        buttonRecalculate.setEnabled(!liveMode);
         buttonRecalculate.setText(R.string.recalculate_button);
     }
 
-    @Override
-    public void onSensorChanged(SensorEvent event) {
-        if (event.sensor.getType() == Sensor.TYPE_ACCELEROMETER) {
-            accX += event.values[0];
-            accY += event.values[1];
-            sampleCount++;
+    // Runs on the sensor thread
+    private void onSensorSample(SensorHub hub) {
+        // While the device is still the hub keeps the reading frozen
+        if (liveMode && !hub.isStill()) {
+            liveUpdate.requestUpdate();
+        }
+        synchronized (sampleLock) {
+            if (!collecting) {
+                return;
+            }
+            // Raw samples are independent, unlike the smoothed reading, so the interval is honest
+            long timestampNs = hub.copyRawAccel(rawSample);
+            if (timestampNs == 0L) {
+                return;
+            }
+            measurement.add(rawSample[0] / TiltProcessor.STANDARD_GRAVITY,
+                    rawSample[1] / TiltProcessor.STANDARD_GRAVITY, timestampNs);
+            if (measurement.isConverged(tolerance)) {
+                collecting = false;
+                mainHandler.post(convergedRunnable);
+            }
         }
     }
 
-    @Override
-    public void onAccuracyChanged(Sensor sensor, int accuracy) {
+    private void calculateAdjustments(float normX, float normY) {
+        // Apply offsets
+        float adjustedX = TiltMath.adjust(normX, TiltMath.offsetNorm(rollOffsetDeg));
+        float adjustedY = TiltMath.adjust(normY, TiltMath.offsetNorm(pitchOffsetDeg));
+
+        levelingSolver.solve(adjustedX, adjustedY);
+
+        // Margins only once a measurement has produced confidence intervals
+        boolean measured = !Double.isNaN(lockedHalfWidthX);
+        int largest = -1;
+        double largestLift = SHIM_RESOLUTION / 2;
+        for (int g = 0; g < groupSlots.length; g++) {
+            double lift = levelingSolver.lift(g);
+            double error = measured
+                    ? levelingSolver.liftError(g, lockedHalfWidthX, lockedHalfWidthY)
+                    : Double.NaN;
+            updateWheelText(groupSlots[g], lift, error);
+            if (Math.abs(lift) >= largestLift) {
+                largest = groupSlots[g];
+                largestLift = Math.abs(lift);
+            }
+        }
+
+        if (blockSolver != null) {
+            for (int b = 0; b < blockGroups.length; b++) {
+                shims[b] = levelingSolver.lift(blockGroups[b]);
+            }
+            blockSolver.solve(shims);
+            updateBlockTexts();
+        }
+
+        if (liveMode) {
+            // The support needing the most travel is the one to work on next; once every
+            // value rounds to zero there is nothing left to do
+            highlightWheel(largest);
+        }
     }
 
-    private void calculateAdjustments(float normX, float normY) {
-        if (normX > 1f) normX = 1f;
-        if (normX < -1f) normX = -1f;
-        if (normY > 1f) normY = 1f;
-        if (normY < -1f) normY = -1f;
+    private void updateBlockTexts() {
+        int types = inventory.typeCount();
+        for (int b = 0; b < blockGroups.length; b++) {
+            int[] shown = shownBlocks[b];
+            boolean changed = false;
+            for (int t = 0; t < types; t++) {
+                int count = blockSolver.blocks(b, t);
+                if (shown[t] != count) {
+                    shown[t] = count;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                continue;
+            }
+            // Tallest blocks first, as they go at the bottom of the stack
+            stackText.setLength(0);
+            for (int t = types - 1; t >= 0; t--) {
+                if (shown[t] == 0) continue;
+                if (stackText.length() > 0) stackText.append('\n');
+                stackText.append(String.format(Locale.getDefault(),
+                        getString(R.string.blocks_stack_entry), shown[t], inventory.height(t)));
+            }
+            TextView view = wheelBlocks[groupSlots[blockGroups[b]]];
+            if (stackText.length() == 0) {
+                view.setText(R.string.blocks_none);
+            } else {
+                view.setText(stackText.toString());
+            }
+        }
 
-        // Apply offsets
-        float offsetPitchNorm = (float) Math.sin(Math.toRadians(pitchOffsetDeg));
-        float offsetRollNorm = (float) Math.sin(Math.toRadians(rollOffsetDeg));
+        double residual = blockSolver.residual();
+        long residualTenths = Math.round(residual * 10);
+        if (residualTenths != shownResidualTenths) {
+            shownResidualTenths = residualTenths;
+            textBlocksResidual.setText(String.format(
+                    Locale.getDefault(),
+                    getString(useImperial ? R.string.blocks_residual_imperial : R.string.blocks_residual_metric),
+                    residual
+            ));
+        }
+    }
 
-        float adjustedX = clampUnit(normX - offsetRollNorm);
-        float adjustedY = clampUnit(normY - offsetPitchNorm);
+    private void highlightWheel(int wheel) {
+        if (wheel == highlightedWheel) {
+            return;
+        }
+        highlightedWheel = wheel;
+        for (int i = 0; i < wheelContainers.length; i++) {
+            wheelContainers[i].setAlpha(wheel < 0 || wheel == i ? 1f : DIMMED_ALPHA);
+        }
+    }
 
-        // Height Calculation
-        double hFront = (wheelbase / 2.0) * adjustedY;
-        double hRear = -(wheelbase / 2.0) * adjustedY;
-        
-        double hRight = (trackWidth / 2.0) * adjustedX;
-        double hLeft = -(trackWidth / 2.0) * adjustedX;
-
-        // Corners
-        double hFL = hFront + hLeft;
-        double hFR = hFront + hRight;
-        double hBL = hRear + hLeft;
-        double hBR = hRear + hRight;
-
-        // Shim = difference from MAX
-        double maxH = Math.max(Math.max(hFL, hFR), Math.max(hBL, hBR));
-
-        double shimFL = maxH - hFL;
-        double shimFR = maxH - hFR;
-        double shimBL = maxH - hBL;
-        double shimBR = maxH - hBR;
-
-        updateWheelText(textFLValue, shimFL);
-        updateWheelText(textFRValue, shimFR);
-        updateWheelText(textBLValue, shimBL);
-        updateWheelText(textBRValue, shimBR);
+    private void clearShownWheels() {
+        for (int i = 0; i < shownTenths.length; i++) {
+            shownTenths[i] = Long.MIN_VALUE;
+            shownErrorTenths[i] = Long.MIN_VALUE;
+        }
     }
 
-    private void updateWheelText(TextView view, double val) {
-        if (useImperial) {
+    private void updateWheelText(int wheel, double val, double error) {
+        // Live mode lands here every frame; skip the format when the one-decimal text is the same
+        long tenths = Math.round(val * 10);
+        long errorTenths = Double.isNaN(error) ? -1L : Math.round(error * 10);
+        if (tenths == shownTenths[wheel] && errorTenths == shownErrorTenths[wheel]) {
+            return;
+        }
+        shownTenths[wheel] = tenths;
+        shownErrorTenths[wheel] = errorTenths;
+
+        TextView view = wheelValues[wheel];
+        if (!Double.isNaN(error)) {
+            view.setText(String.format(
+                    Locale.getDefault(),
+                    getString(useImperial ? R.string.wheel_value_imperial_uncertain : R.string.wheel_value_metric_uncertain),
+                    val,
+                    error
+            ));
+        } else if (useImperial) {
             view.setText(String.format(
                     Locale.getDefault(),
                     getString(R.string.wheel_value_imperial),
@@ -298,12 +615,6 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         }
     }
 
-    private float clampUnit(float value) {
-        if (value > 1f) return 1f;
-        if (value < -1f) return -1f;
-        return value;
-    }
-
     private void applyNightMode() {
         int textColor;
         int backgroundColor;
@@ -335,6 +646,23 @@ public class WheelAdjustActivity extends AppCompatActivity implements SensorEven
         if (textHeader != null) textHeader.setTextColor(textColor);
         if (textPhoneTopLabel != null) textPhoneTopLabel.setTextColor(textColor);
         if (labelWheelbase != null) labelWheelbase.setTextColor(textColor);
+        if (labelTrackWidth != null) labelTrackWidth.setTextColor(textColor);
+        if (labelAxleSpacing != null) labelAxleSpacing.setTextColor(textColor);
+        if (inputAxleSpacing != null) {
+            inputAxleSpacing.setTextColor(textColor);
+            inputAxleSpacing.setHintTextColor(hintColor);
+        }
+        if (textVehicleType != null) textVehicleType.setTextColor(useNightMode ? textColor : ContextCompat.getColor(this, R.color.teal_200));
+        if (labelBlocks != null) labelBlocks.setTextColor(textColor);
+        if (textBlocksResidual != null) textBlocksResidual.setTextColor(textColor);
+        if (inputBlocks != null) {
+            inputBlocks.setTextColor(textColor);
+            inputBlocks.setHintTextColor(hintColor);
+        }
+        if (wheelBlocks != null) {
+            for (TextView view : wheelBlocks) view.setTextColor(textColor);
+        }
+        if (switchLive != null) switchLive.setTextColor(textColor);
         
         if (inputWheelbase != null) {
             inputWheelbase.setTextColor(textColor);
@@ -0,0 +1,399 @@
+package com.campertools.app.sensor;
+
+import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
+import android.os.Handler;
+
+import com.campertools.app.level.GravityEstimator;
+import com.campertools.app.level.OneEuroFilter;
+import com.campertools.app.level.SensorFilters;
+import com.campertools.app.level.StillnessDetector;
+import com.campertools.app.level.TiltProcessor;
+import com.campertools.app.level.TiltReading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process-wide owner of the motion sensors.
+ * Screens subscribe for {@link #TILT} and/or {@link #HEADING}; the sensors are registered once
+ * for the union of all subscriptions and stay registered for {@link #LINGER_MS} after the last
+ * one goes, so moving between screens keeps the filters converged and every screen can
+ * {@link #read} a settled reading as soon as it opens.
+ * All filtering runs on {@link SensorThread}; listeners are called there after each sample.
+ */
+public final class SensorHub implements SensorEventListener {
+
+    public static final int TILT = 1;
+    public static final int HEADING = 1 << 1;
+
+    public interface Listener {
+        /**
+         * Called on the sensor thread after each sample. {@link #read} gives the current reading.
+         */
+        void onSensorSample(SensorHub hub);
+    }
+
+    // With a gyroscope the fused gravity is low-noise and needs no further filtering
+    private static final float FUSION_TIME_CONSTANT_S = 0.5f;
+    // Parked and untouched: freeze the reading and let the sensor hub batch slow samples
+    private static final float STILL_VARIANCE = 0.006f;
+    private static final float MOTION_DEVIATION = 0.25f;
+    private static final long STILL_HOLD_MS = 3_000L;
+    private static final int STILL_SAMPLING_US = 200_000;
+    private static final int STILL_MAX_LATENCY_US = 500_000;
+    // Long enough to cover an activity transition
+    private static final long LINGER_MS = 5_000L;
+    // A magnetometer sample older than this no longer steers the heading
+    private static final long MAG_STALE_NS = 1_000_000_000L;
+
+    private static SensorHub instance;
+
+    private final SensorManager sensorManager;
+    private final Sensor accelerometer;
+    private final Sensor magnetometer;
+    private final Sensor gyroscope;
+    // The platform rotation vector already fuses gyro, accelerometer and magnetometer
+    private final Sensor headingSensor;
+    // Gyro fusion when the device has a gyroscope, otherwise low-passed accelerometer and magnetometer
+    private final boolean useFusion;
+    private final Handler handler = SensorThread.handler();
+
+    // Touched on the sensor thread only. Reused on every sample; the sensor path must not allocate
+    private final GravityEstimator gravityEstimator = new GravityEstimator(FUSION_TIME_CONSTANT_S);
+    private final OneEuroFilter accelFilter = SensorFilters.accelerometer();
+    private final OneEuroFilter magFilter = SensorFilters.magnetometer();
+    private final StillnessDetector stillness = new StillnessDetector(STILL_VARIANCE, MOTION_DEVIATION, STILL_HOLD_MS);
+    private final TiltProcessor tiltProcessor;
+    private final float[] gravity = new float[3];
+    private final float[] magnetReading = new float[3];
+    private final float[] rotationMatrix = new float[9];
+    private final float[] orientation = new float[3];
+    private boolean hasGravity = false;
+    private long lastMagNs = Long.MIN_VALUE / 2;
+    private float accelMagnitudeG = 1f;
+    private final float[] rawAccel = new float[3];
+    private long rawAccelNs;
+
+    // Subscriptions and registration, guarded by registrationLock
+    private final Object registrationLock = new Object();
+    private final List<Listener> subscribers = new ArrayList<>();
+    private final List<Integer> subscriberSensors = new ArrayList<>();
+    private int registeredSensors = 0;
+    private volatile boolean still = false;
+    // While held, stillness never downshifts the accelerometer; see holdFullRate()
+    private volatile int fullRateHolds = 0;
+    // Snapshot of subscribers for allocation-free iteration on the sensor thread
+    private volatile Listener[] listeners = new Listener[0];
+
+    private final TiltReading published = new TiltReading();
+
+    private SensorHub(Context appContext) {
+        sensorManager = (SensorManager) appContext.getSystemService(Context.SENSOR_SERVICE);
+        if (sensorManager != null) {
+            accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
+            magnetometer = sensorManager.getDefaultSensor(Sensor.TYPE_MAGNETIC_FIELD);
+            gyroscope = sensorManager.getDefaultSensor(Sensor.TYPE_GYROSCOPE);
+            Sensor rotationVector = sensorManager.getDefaultSensor(Sensor.TYPE_ROTATION_VECTOR);
+            useFusion = gyroscope != null;
+            headingSensor = useFusion && rotationVector != null ? rotationVector : magnetometer;
+        } else {
+            accelerometer = null;
+            magnetometer = null;
+            gyroscope = null;
+            headingSensor = null;
+            useFusion = false;
+        }
+        tiltProcessor = new TiltProcessor(headingSensor != null && headingSensor != magnetometer
+                ? SensorFilters.fusedHeading()
+                : SensorFilters.heading());
+    }
+
+    public static synchronized SensorHub get(Context context) {
+        if (instance == null) {
+            instance = new SensorHub(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public boolean hasTiltSensor() {
+        return accelerometer != null;
+    }
+
+    public boolean hasHeadingSensor() {
+        return headingSensor != null;
+    }
+
+    /**
+     * Adds or updates a subscription; {@code sensors} is a combination of {@link #TILT} and {@link #HEADING}.
+     */
+    public void subscribe(int sensors, Listener listener) {
+        synchronized (registrationLock) {
+            int index = subscribers.indexOf(listener);
+            if (index >= 0) {
+                subscriberSensors.set(index, sensors);
+            } else {
+                subscribers.add(listener);
+                subscriberSensors.add(sensors);
+            }
+            listeners = subscribers.toArray(new Listener[0]);
+            handler.removeCallbacks(release);
+            int wanted = subscribedSensors();
+            if (still || wanted != registeredSensors) {
+                still = false;
+                applyRegistration(wanted);
+            }
+        }
+        handler.post(resetStillness);
+    }
+
+    public void unsubscribe(Listener listener) {
+        synchronized (registrationLock) {
+            int index = subscribers.indexOf(listener);
+            if (index < 0) {
+                return;
+            }
+            subscribers.remove(index);
+            subscriberSensors.remove(index);
+            listeners = subscribers.toArray(new Listener[0]);
+            int sensors = subscribedSensors();
+            if (sensors == 0) {
+                // Keep everything warm in case the next screen subscribes right away
+                handler.postDelayed(release, LINGER_MS);
+            } else if (sensors != registeredSensors) {
+                applyRegistration(sensors);
+            }
+        }
+    }
+
+    /**
+     * Leaves the low-rate stillness mode, e.g. when the user interacts with the screen.
+     */
+    public void wake() {
+        synchronized (registrationLock) {
+            if (still) {
+                still = false;
+                applyRegistration(registeredSensors);
+            }
+        }
+        handler.post(resetStillness);
+    }
+
+    /**
+     * Keeps the sensors at full rate until {@link #releaseFullRate()}, even if the device lies
+     * still. Measurements that average raw samples need the full rate exactly when the phone is
+     * resting on the floor; at the still rate they would collect a tenth of the samples.
+     * Holds nest, and each must be released.
+     */
+    public void holdFullRate() {
+        synchronized (registrationLock) {
+            fullRateHolds++;
+            if (still) {
+                still = false;
+                applyRegistration(registeredSensors);
+            }
+        }
+        handler.post(resetStillness);
+    }
+
+    public void releaseFullRate() {
+        synchronized (registrationLock) {
+            if (fullRateHolds > 0) {
+                fullRateHolds--;
+            }
+        }
+    }
+
+    /**
+     * True while the device lies still; the reading is then frozen and samples arrive slowly.
+     */
+    public boolean isStill() {
+        return still;
+    }
+
+    /**
+     * Copies the latest reading into {@code out}. Safe from any thread.
+     */
+    public boolean read(TiltReading out) {
+        synchronized (published) {
+            out.set(published);
+        }
+        return out.hasTilt;
+    }
+
+    /**
+     * Magnitude of the latest raw accelerometer sample in g; only valid inside {@link Listener#onSensorSample}.
+     */
+    public float getAccelMagnitudeG() {
+        return accelMagnitudeG;
+    }
+
+    /**
+     * Copies the latest unfiltered accelerometer sample in m/s² and returns its timestamp;
+     * only valid inside {@link Listener#onSensorSample}. Statistics over a still device want
+     * independent samples rather than the smoothed reading.
+     */
+    public long copyRawAccel(float[] out) {
+        System.arraycopy(rawAccel, 0, out, 0, 3);
+        return rawAccelNs;
+    }
+
+    public void setOffsets(final float pitchOffsetDeg, final float rollOffsetDeg) {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                tiltProcessor.setOffsets(pitchOffsetDeg, rollOffsetDeg);
+                if (hasGravity) {
+                    tiltProcessor.updateTilt(gravity[0], gravity[1]);
+                }
+                publish();
+                notifyListeners();
+            }
+        });
+    }
+
+    private int subscribedSensors() {
+        int sensors = 0;
+        for (int i = 0; i < subscriberSensors.size(); i++) {
+            sensors |= subscriberSensors.get(i);
+        }
+        return sensors;
+    }
+
+    private final Runnable release = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (registrationLock) {
+                if (subscribers.isEmpty()) {
+                    applyRegistration(0);
+                }
+            }
+        }
+    };
+
+    private final Runnable resetStillness = new Runnable() {
+        @Override
+        public void run() {
+            stillness.reset();
+        }
+    };
+
+    // Called with registrationLock held
+    private void applyRegistration(int sensors) {
+        registeredSensors = sensors;
+        if (sensorManager == null) {
+            return;
+        }
+        sensorManager.unregisterListener(this);
+        if (sensors == 0) {
+            return;
+        }
+        if (accelerometer != null) {
+            if (still) {
+                // Only watches for motion; samples may wait in the hardware FIFO
+                sensorManager.registerListener(this, accelerometer, STILL_SAMPLING_US, STILL_MAX_LATENCY_US, handler);
+            } else if (useFusion) {
+                // Integration needs a steady gyro rate; the accelerometer only corrects drift
+                sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME, handler);
+            } else {
+                sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_UI, handler);
+            }
+        }
+        if (still) {
+            return;
+        }
+        if (useFusion) {
+            sensorManager.registerListener(this, gyroscope, SensorManager.SENSOR_DELAY_GAME, handler);
+        }
+        if ((sensors & HEADING) != 0 && headingSensor != null) {
+            sensorManager.registerListener(this, headingSensor, SensorManager.SENSOR_DELAY_UI, handler);
+        }
+    }
+
+    @Override
+    public void onSensorChanged(SensorEvent event) {
+        int type = event.sensor.getType();
+        if (type == Sensor.TYPE_ACCELEROMETER) {
+            float x = event.values[0];
+            float y = event.values[1];
+            float z = event.values[2];
+            accelMagnitudeG = (float) Math.sqrt(x * x + y * y + z * z) / SensorManager.GRAVITY_EARTH;
+            System.arraycopy(event.values, 0, rawAccel, 0, 3);
+            rawAccelNs = event.timestamp;
+            if (useFusion) {
+                gravityEstimator.updateAccel(x, y, z, event.timestamp);
+                gravityEstimator.copyTo(gravity);
+            } else {
+                accelFilter.filter(event.values, event.timestamp, gravity);
+            }
+            hasGravity = true;
+            stillness.update(x, y, z, event.timestamp);
+            // Compared rather than using the change flag: wake() may have cleared still meanwhile
+            boolean downshift = stillness.isStill() && fullRateHolds == 0;
+            if (downshift != still) {
+                synchronized (registrationLock) {
+                    still = stillness.isStill() && fullRateHolds == 0;
+                    applyRegistration(registeredSensors);
+                }
+            }
+            // While still the last reading stays published; the filters keep running
+            if (!stillness.isStill()) {
+                updateReading(event.timestamp);
+            }
+            notifyListeners();
+        } else if (type == Sensor.TYPE_GYROSCOPE) {
+            gravityEstimator.updateGyro(event.values[0], event.values[1], event.values[2], event.timestamp);
+            if (gravityEstimator.isInitialized()) {
+                gravityEstimator.copyTo(gravity);
+                updateReading(event.timestamp);
+                notifyListeners();
+            }
+        } else if (type == Sensor.TYPE_ROTATION_VECTOR) {
+            SensorManager.getRotationMatrixFromVector(rotationMatrix, event.values);
+            SensorManager.getOrientation(rotationMatrix, orientation);
+            tiltProcessor.updateHeading((float) Math.toDegrees(orientation[0]), event.timestamp);
+            publish();
+            notifyListeners();
+        } else if (type == Sensor.TYPE_MAGNETIC_FIELD) {
+            magFilter.filter(event.values, event.timestamp, magnetReading);
+            lastMagNs = event.timestamp;
+            updateReading(event.timestamp);
+            notifyListeners();
+        }
+    }
+
+    @Override
+    public void onAccuracyChanged(Sensor sensor, int accuracy) {
+        // No action needed
+    }
+
+    private void updateReading(long timestampNs) {
+        if (hasGravity) {
+            tiltProcessor.updateTilt(gravity[0], gravity[1]);
+        }
+        // Without a rotation vector the heading comes from (fused or filtered) gravity and the magnetometer
+        if (hasGravity && headingSensor == magnetometer && timestampNs - lastMagNs < MAG_STALE_NS) {
+            boolean success = SensorManager.getRotationMatrix(rotationMatrix, null, gravity, magnetReading);
+            if (success) {
+                SensorManager.getOrientation(rotationMatrix, orientation);
+                tiltProcessor.updateHeading((float) Math.toDegrees(orientation[0]), timestampNs);
+            }
+        }
+        publish();
+    }
+
+    private void publish() {
+        synchronized (published) {
+            tiltProcessor.copyTo(published);
+        }
+    }
+
+    private void notifyListeners() {
+        for (Listener listener : listeners) {
+            listener.onSensorSample(this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.campertools.app.sensor;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+
+/**
+ * Process-wide looper thread that receives sensor events.
+ * Pass {@link #handler()} to {@code SensorManager.registerListener} so filtering and fusion
+ * run here instead of competing with layout and drawing on the main thread.
+ */
+public final class SensorThread {
+
+    private static HandlerThread thread;
+    private static Handler handler;
+
+    private SensorThread() {
+    }
+
+    public static synchronized Handler handler() {
+        if (handler == null) {
+            thread = new HandlerThread("Sensors", Process.THREAD_PRIORITY_DISPLAY);
+            thread.start();
+            handler = new Handler(thread.getLooper());
+        }
+        return handler;
+    }
+}
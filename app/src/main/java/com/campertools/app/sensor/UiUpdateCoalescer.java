@@ -0,0 +1,39 @@
+package com.campertools.app.sensor;
+
+import android.view.Choreographer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands the latest sensor state to the main thread without queueing a message per sample.
+ * {@link #requestUpdate()} may be called from any thread; however many calls arrive between
+ * two vsync pulses, the update runs once in the next frame and reads whatever state is newest.
+ * Must be created on the main thread.
+ */
+public final class UiUpdateCoalescer {
+
+    private final Choreographer choreographer = Choreographer.getInstance();
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+    private final Choreographer.FrameCallback dispatch;
+
+    public UiUpdateCoalescer(final Runnable update) {
+        dispatch = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                pending.set(false);
+                update.run();
+            }
+        };
+    }
+
+    public void requestUpdate() {
+        if (pending.compareAndSet(false, true)) {
+            choreographer.postFrameCallback(dispatch);
+        }
+    }
+
+    public void cancel() {
+        choreographer.removeFrameCallback(dispatch);
+        pending.set(false);
+    }
+}
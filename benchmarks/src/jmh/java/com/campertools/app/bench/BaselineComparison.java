@@ -0,0 +1,102 @@
+package com.campertools.app.bench;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark: score and bytes allocated per
+ * op (from the gc profiler), with the relative change in score.
+ * Usage: BaselineComparison baseline.json results.json
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOC_METRIC = "·gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <results.json>");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.isFile()) {
+            System.err.println("No baseline at " + baselineFile + "; run :benchmarks:recordBaseline first");
+            System.exit(1);
+        }
+        Map<String, JSONObject> baseline = load(baselineFile);
+        Map<String, JSONObject> current = load(new File(args[1]));
+
+        System.out.println(String.format(Locale.US, "%-70s %14s %14s %8s %10s %10s",
+                "benchmark", "baseline", "current", "change", "base B/op", "B/op"));
+        for (Map.Entry<String, JSONObject> entry : current.entrySet()) {
+            JSONObject now = entry.getValue();
+            JSONObject before = baseline.get(entry.getKey());
+            JSONObject metric = now.getJSONObject("primaryMetric");
+            String unit = metric.getString("scoreUnit");
+            double score = metric.getDouble("score");
+            if (before == null) {
+                System.out.println(String.format(Locale.US, "%-70s %14s %11.3f %s %8s %10s %10.0f",
+                        entry.getKey(), "-", score, unit, "new", "-", allocation(now)));
+                continue;
+            }
+            double baseScore = before.getJSONObject("primaryMetric").getDouble("score");
+            double change = (score - baseScore) / baseScore * 100.0;
+            System.out.println(String.format(Locale.US, "%-70s %11.3f %s %11.3f %s %+7.1f%% %10.0f %10.0f",
+                    entry.getKey(), baseScore, unit, score, unit, change,
+                    allocation(before), allocation(now)));
+        }
+    }
+
+    // Keyed by benchmark name plus its parameters
+    private static Map<String, JSONObject> load(File file) throws IOException {
+        JSONArray runs = new JSONArray(read(file));
+        Map<String, JSONObject> byName = new LinkedHashMap<>();
+        for (int i = 0; i < runs.length(); i++) {
+            JSONObject run = runs.getJSONObject(i);
+            StringBuilder key = new StringBuilder(run.getString("benchmark")
+                    .replace("com.campertools.app.bench.", ""));
+            JSONObject params = run.optJSONObject("params");
+            if (params != null) {
+                for (String name : params.keySet()) {
+                    key.append(' ').append(name).append('=').append(params.getString(name));
+                }
+            }
+            byName.put(key.toString(), run);
+        }
+        return byName;
+    }
+
+    private static double allocation(JSONObject run) {
+        JSONObject secondary = run.optJSONObject("secondaryMetrics");
+        if (secondary == null || !secondary.has(ALLOC_METRIC)) {
+            return Double.NaN;
+        }
+        return secondary.getJSONObject(ALLOC_METRIC).getDouble("score");
+    }
+
+    private static String read(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+}
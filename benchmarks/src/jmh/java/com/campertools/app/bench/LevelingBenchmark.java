@@ -0,0 +1,82 @@
+package com.campertools.app.bench;
+
+import com.campertools.app.level.BlockInventory;
+import com.campertools.app.level.BlockSolver;
+import com.campertools.app.level.LevelingSolver;
+import com.campertools.app.level.SupportLayout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The height-adjust screen's per-frame work in live mode: solve the support lifts for the
+ * current slopes, then plan block stacks for them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LevelingBenchmark {
+
+    private static final int SLOPES = 256;
+
+    @Param({"0", "3"})
+    public int preset;
+
+    @Param({"2.5x4, 5x2", "1x2, 2.5x4, 5x2"})
+    public String inventory;
+
+    private final double[] slopeX = new double[SLOPES];
+    private final double[] slopeY = new double[SLOPES];
+    private LevelingSolver solver;
+    private BlockSolver blocks;
+    private int[] blockGroups;
+    private double[] shims;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SLOPES; i++) {
+            slopeX[i] = 0.03 * Math.sin(i * 0.1);
+            slopeY[i] = 0.02 * Math.cos(i * 0.07);
+        }
+        SupportLayout layout = SupportLayout.preset(preset, 350, 180, 90);
+        solver = new LevelingSolver(layout);
+        int count = 0;
+        for (int g = 0; g < layout.groupCount(); g++) {
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) count++;
+        }
+        blockGroups = new int[count];
+        count = 0;
+        for (int g = 0; g < layout.groupCount(); g++) {
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) blockGroups[count++] = g;
+        }
+        shims = new double[count];
+        blocks = new BlockSolver(BlockInventory.parse(inventory), count, 0.1);
+    }
+
+    @Benchmark
+    public double solveLifts() {
+        index = (index + 1) & (SLOPES - 1);
+        solver.solve(slopeX[index], slopeY[index]);
+        return solver.lift(0);
+    }
+
+    @Benchmark
+    public double solveLiftsAndBlocks() {
+        index = (index + 1) & (SLOPES - 1);
+        solver.solve(slopeX[index], slopeY[index]);
+        for (int b = 0; b < blockGroups.length; b++) {
+            shims[b] = solver.lift(blockGroups[b]);
+        }
+        blocks.solve(shims);
+        return blocks.residual();
+    }
+}
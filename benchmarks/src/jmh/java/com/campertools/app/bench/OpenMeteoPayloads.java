@@ -0,0 +1,116 @@
+package com.campertools.app.bench;
+
+import java.util.Locale;
+
+/**
+ * Builds Open-Meteo forecast responses shaped like the ones the app requests, with every hourly
+ * and daily field it asks for, so parser benchmarks see real payload sizes.
+ */
+final class OpenMeteoPayloads {
+
+    private OpenMeteoPayloads() {
+    }
+
+    static String forecast(int days) {
+        int hours = days * 24;
+        StringBuilder sb = new StringBuilder(hours * 120);
+        sb.append("{\"latitude\":47.37,\"longitude\":8.54,\"generationtime_ms\":0.81,")
+                .append("\"utc_offset_seconds\":7200,\"timezone\":\"Europe/Zurich\",")
+                .append("\"timezone_abbreviation\":\"CEST\",\"elevation\":408.0,")
+                .append("\"current_weather\":{\"time\":\"2026-10-17T10:00\",\"interval\":900,")
+                .append("\"temperature\":12.4,\"windspeed\":14.8,\"winddirection\":243,")
+                .append("\"is_day\":1,\"weathercode\":3},");
+
+        sb.append("\"hourly_units\":{\"time\":\"iso8601\",\"temperature_2m\":\"°C\"},\"hourly\":{");
+        sb.append("\"time\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append('"').append(date(h / 24)).append(String.format(Locale.US, "T%02d:00", h % 24)).append('"');
+        }
+        sb.append("],\"temperature_2m\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append(String.format(Locale.US, "%.1f", 9.0 + 6.0 * Math.sin((h % 24 - 9) * Math.PI / 12) + (h % 7) * 0.3));
+        }
+        sb.append("],\"precipitation\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append(h % 11 < 3 ? String.format(Locale.US, "%.2f", 0.1 * (h % 5)) : "0.00");
+        }
+        sb.append("],\"weathercode\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append(h % 11 < 3 ? 61 : (h % 5 == 0 ? 3 : 1));
+        }
+        sb.append("],\"winddirection_10m\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append((200 + h * 7) % 360);
+        }
+        sb.append("],\"cloudcover\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append((h * 13) % 101);
+        }
+        sb.append("],\"sunshine_duration\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append(isDay(h) ? String.format(Locale.US, "%.2f", 3600.0 - (h * 13) % 101 * 30.0) : "0.00");
+        }
+        sb.append("],\"is_day\":[");
+        for (int h = 0; h < hours; h++) {
+            if (h > 0) sb.append(',');
+            sb.append(isDay(h) ? 1 : 0);
+        }
+        sb.append("]},");
+
+        sb.append("\"daily\":{\"time\":[");
+        for (int d = 0; d < days; d++) {
+            if (d > 0) sb.append(',');
+            sb.append('"').append(date(d)).append('"');
+        }
+        sb.append("],\"sunrise\":[");
+        for (int d = 0; d < days; d++) {
+            if (d > 0) sb.append(',');
+            sb.append('"').append(date(d)).append(String.format(Locale.US, "T07:%02d", 40 + d % 20)).append('"');
+        }
+        sb.append("],\"sunset\":[");
+        for (int d = 0; d < days; d++) {
+            if (d > 0) sb.append(',');
+            sb.append('"').append(date(d)).append(String.format(Locale.US, "T18:%02d", 30 - d % 20)).append('"');
+        }
+        appendDaily(sb, "windgusts_10m_max", days, 30.0, 4.0);
+        appendDaily(sb, "temperature_2m_max", days, 15.0, 0.5);
+        appendDaily(sb, "temperature_2m_min", days, 4.0, 0.3);
+        appendDaily(sb, "precipitation_sum", days, 0.0, 0.7);
+        appendDaily(sb, "winddirection_10m_dominant", days, 180.0, 11.0);
+        sb.append("],\"weathercode\":[");
+        for (int d = 0; d < days; d++) {
+            if (d > 0) sb.append(',');
+            sb.append(d % 3 == 0 ? 61 : 2);
+        }
+        sb.append("]}}");
+        return sb.toString();
+    }
+
+    private static void appendDaily(StringBuilder sb, String name, int days, double base, double step) {
+        sb.append("],\"").append(name).append("\":[");
+        for (int d = 0; d < days; d++) {
+            if (d > 0) sb.append(',');
+            sb.append(String.format(Locale.US, "%.1f", base + step * (d % 6)));
+        }
+    }
+
+    private static boolean isDay(int hour) {
+        int h = hour % 24;
+        return h >= 8 && h < 19;
+    }
+
+    private static String date(int day) {
+        // October has 31 days, and 16 days from the 17th run into November
+        int dayOfMonth = 17 + day;
+        return dayOfMonth <= 31
+                ? String.format(Locale.US, "2026-10-%02d", dayOfMonth)
+                : String.format(Locale.US, "2026-11-%02d", dayOfMonth - 31);
+    }
+}
@@ -0,0 +1,70 @@
+package com.campertools.app.bench;
+
+import com.campertools.app.level.OneEuroFilter;
+import com.campertools.app.level.SensorFilters;
+import com.campertools.app.level.TiltProcessor;
+import com.campertools.app.level.TiltReading;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-sample sensor path behind the level screen: filter an accelerometer event, turn it
+ * into offsets and angles, and publish a reading. Should stay at zero bytes per op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TiltBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final long STEP_NS = 5_000_000L;
+
+    private final float[][] accel = new float[SAMPLES][3];
+    private final float[] filtered = new float[3];
+    private final TiltReading reading = new TiltReading();
+    private OneEuroFilter accelFilter;
+    private TiltProcessor processor;
+    private int index;
+    private long timestampNs;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // A van rocking slowly around 2° of roll with sensor noise
+            double roll = Math.toRadians(2 + Math.sin(i * 0.05));
+            accel[i][0] = (float) (9.80665 * Math.sin(roll) + ((i * 31) % 7 - 3) * 0.01);
+            accel[i][1] = (float) (0.3 + ((i * 17) % 5 - 2) * 0.01);
+            accel[i][2] = (float) (9.80665 * Math.cos(roll));
+        }
+        accelFilter = SensorFilters.accelerometer();
+        processor = new TiltProcessor(SensorFilters.heading());
+        processor.setOffsets(0.5f, -0.3f);
+    }
+
+    @Benchmark
+    public TiltReading filterAndUpdateTilt() {
+        float[] sample = accel[index];
+        index = (index + 1) & (SAMPLES - 1);
+        timestampNs += STEP_NS;
+        accelFilter.filter(sample, timestampNs, filtered);
+        processor.updateTilt(filtered[0], filtered[1]);
+        processor.copyTo(reading);
+        return reading;
+    }
+
+    @Benchmark
+    public float updateHeading() {
+        index = (index + 1) & (SAMPLES - 1);
+        timestampNs += STEP_NS;
+        processor.updateHeading(index * 0.35f, timestampNs);
+        return processor.getHeadingDeg();
+    }
+}
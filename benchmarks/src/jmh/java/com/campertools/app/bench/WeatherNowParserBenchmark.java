@@ -0,0 +1,62 @@
+package com.campertools.app.bench;
+
+import com.campertools.app.weather.ForecastFrame;
+import com.campertools.app.weather.HourlyWindows;
+import com.campertools.app.weather.OpenMeteoParser;
+import com.campertools.app.weather.WeatherNowParser;
+import com.campertools.app.weather.WeatherNowSnapshot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WeatherNowParserBenchmark {
+
+    // The app asks for 7 days; 16 is the most Open-Meteo serves
+    @Param({"7", "16"})
+    public int days;
+
+    private String json;
+    private ForecastFrame frame;
+    private long now;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = OpenMeteoPayloads.forecast(days);
+        frame = OpenMeteoParser.parse(json);
+        // 2026-10-17T10:20 in Zurich
+        now = 1792195200L - 7200L + 10 * 3600 + 20 * 60;
+    }
+
+    @Benchmark
+    public WeatherNowSnapshot parseCurrentAndNext24h() {
+        return WeatherNowParser.parseCurrentAndNext24h(json, now);
+    }
+
+    @Benchmark
+    public ForecastFrame parseOnly() throws IOException {
+        return OpenMeteoParser.parse(json);
+    }
+
+    @Benchmark
+    public HourlyWindows buildWindows() {
+        return new HourlyWindows(frame);
+    }
+
+    // The frame caches its windows, so this measures the O(1) queries alone
+    @Benchmark
+    public WeatherNowSnapshot summariseParsed() {
+        return WeatherNowParser.currentAndNext24h(frame, now);
+    }
+}
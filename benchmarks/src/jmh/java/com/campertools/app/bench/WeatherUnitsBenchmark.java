@@ -0,0 +1,89 @@
+package com.campertools.app.bench;
+
+import com.campertools.app.weather.UnitSystem;
+import com.campertools.app.weather.WeatherUnits;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions over a forecast's worth of values (16 days hourly), the way a forecast screen
+ * formats them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class WeatherUnitsBenchmark {
+
+    private static final int VALUES = 16 * 24;
+
+    private final double[] celsius = new double[VALUES];
+    private final double[] kmh = new double[VALUES];
+    private final double[] mm = new double[VALUES];
+    private final double[] degrees = new double[VALUES];
+    private final double[] out = new double[VALUES];
+    private final int[] buckets = new int[VALUES];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < VALUES; i++) {
+            celsius[i] = -10 + (i * 0.37) % 45;
+            kmh[i] = (i * 1.3) % 90;
+            mm[i] = (i % 11) * 0.4;
+            degrees[i] = (i * 7.3) % 360;
+        }
+    }
+
+    @Benchmark
+    public void convertTemperatures(Blackhole bh) {
+        for (double c : celsius) {
+            bh.consume(WeatherUnits.celsiusToFahrenheit(c));
+        }
+    }
+
+    @Benchmark
+    public void convertWindAndPrecipitation(Blackhole bh) {
+        for (int i = 0; i < VALUES; i++) {
+            bh.consume(WeatherUnits.kmhToMph(kmh[i]));
+            bh.consume(WeatherUnits.mmToInches(mm[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] convertTemperatureColumn() {
+        return UnitSystem.IMPERIAL.temperatures(celsius, out);
+    }
+
+    @Benchmark
+    public double[] convertWindAndPrecipitationColumns() {
+        UnitSystem.IMPERIAL.speeds(kmh, out);
+        return UnitSystem.IMPERIAL.precipitations(mm, out);
+    }
+
+    @Benchmark
+    public void directionBucketIndex(Blackhole bh) {
+        for (double d : degrees) {
+            bh.consume(WeatherUnits.directionBucketIndex(d));
+        }
+    }
+
+    @Benchmark
+    public int[] directionBucketColumn() {
+        return WeatherUnits.directionBuckets(degrees, buckets);
+    }
+
+    @Benchmark
+    public void cardinalDirection(Blackhole bh) {
+        for (double d : degrees) {
+            bh.consume(WeatherUnits.cardinalDirection(d));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.campertools.app.level;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The leveling blocks and ramps a user owns: distinct heights with how many of each.
+ * Parsed from text such as {@code "2.5x4, 5x2"} (height x count; a bare height is one block).
+ * Heights are in whatever unit the wheelbase is entered in. Types are ordered by ascending
+ * height, whatever order they were entered in.
+ */
+public final class BlockInventory {
+
+    // Far more blocks than anyone carries; larger counts are typos
+    public static final int MAX_COUNT = 1000;
+
+    private final double[] heights;
+    private final int[] counts;
+
+    private BlockInventory(double[] heights, int[] counts) {
+        this.heights = heights;
+        this.counts = counts;
+    }
+
+    /**
+     * Parses an inventory; blank text is an empty inventory.
+     *
+     * @throws IllegalArgumentException if an entry is not a positive height with a positive count,
+     *                                  or a height's total count exceeds {@link #MAX_COUNT}
+     */
+    public static BlockInventory parse(String text) {
+        String[] entries = text.trim().isEmpty() ? new String[0] : text.split("[,;]");
+        double[] heights = new double[entries.length];
+        int[] counts = new int[entries.length];
+        int types = 0;
+        for (String entry : entries) {
+            String trimmed = entry.trim().toLowerCase(Locale.US);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = Math.max(trimmed.indexOf('x'), trimmed.indexOf('×'));
+            double height;
+            int count;
+            try {
+                if (separator < 0) {
+                    height = Double.parseDouble(trimmed);
+                    count = 1;
+                } else {
+                    height = Double.parseDouble(trimmed.substring(0, separator).trim());
+                    count = Integer.parseInt(trimmed.substring(separator + 1).trim());
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad block entry: " + entry.trim());
+            }
+            if (!(height > 0) || Double.isInfinite(height) || count <= 0 || count > MAX_COUNT) {
+                throw new IllegalArgumentException("Bad block entry: " + entry.trim());
+            }
+            // Equal heights are one type, so the solver does not try swapping identical blocks
+            int existing = -1;
+            for (int t = 0; t < types; t++) {
+                if (heights[t] == height) {
+                    existing = t;
+                    break;
+                }
+            }
+            if (existing >= 0) {
+                counts[existing] += count;
+                if (counts[existing] > MAX_COUNT) {
+                    throw new IllegalArgumentException("Too many blocks: " + entry.trim());
+                }
+            } else {
+                heights[types] = height;
+                counts[types] = count;
+                types++;
+            }
+        }
+        // Insertion sort by height; an inventory has a handful of types
+        for (int i = 1; i < types; i++) {
+            double height = heights[i];
+            int count = counts[i];
+            int j = i - 1;
+            while (j >= 0 && heights[j] > height) {
+                heights[j + 1] = heights[j];
+                counts[j + 1] = counts[j];
+                j--;
+            }
+            heights[j + 1] = height;
+            counts[j + 1] = count;
+        }
+        return new BlockInventory(Arrays.copyOf(heights, types), Arrays.copyOf(counts, types));
+    }
+
+    public int typeCount() {
+        return heights.length;
+    }
+
+    /** Heights ascend with the type index. */
+    public double height(int type) {
+        return heights[type];
+    }
+
+    public int count(int type) {
+        return counts[type];
+    }
+
+    public boolean isEmpty() {
+        return heights.length == 0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.campertools.app.level;
+
+/**
+ * Turns continuous shim heights into stacks from a {@link BlockInventory}.
+ * Tries every way of handing the blocks out (pruned), and keeps the one that leaves the
+ * smallest height spread between the supports, then the least total lift, then the fewest
+ * blocks. Every support may get blocks, so when the needed heights cannot be stacked the
+ * reference corner can be raised too. The search stops after {@link #MAX_NODES} steps and
+ * keeps the best plan found by then, so large inventories stay cheap enough to run per
+ * sensor frame; {@link #solve} does not allocate.
+ */
+public final class BlockSolver {
+
+    // Keeps a solve around a millisecond; typical inventories finish in a fraction of it
+    public static final int MAX_NODES = 200_000;
+
+    private static final double LIFT_EPSILON = 1e-9;
+
+    private final BlockInventory inventory;
+    private final int supports;
+    private final int types;
+    private final double resolution;
+
+    private final int[] remaining;
+    private final int[][] current;
+    private final double[] currentLift;
+    private double[] shims;
+    private int nodes;
+
+    private final int[][] best;
+    private final double[] bestLift;
+    private long bestKey;
+    private double bestSpread;
+    private double bestTotal;
+    private int bestBlocks;
+
+    /**
+     * @param resolution spreads that round to the same multiple of this count as equally level
+     */
+    public BlockSolver(BlockInventory inventory, int supports, double resolution) {
+        this.inventory = inventory;
+        this.supports = supports;
+        this.types = inventory.typeCount();
+        this.resolution = resolution;
+        remaining = new int[types];
+        current = new int[supports][types];
+        currentLift = new double[supports];
+        best = new int[supports][types];
+        bestLift = new double[supports];
+    }
+
+    /**
+     * Plans stacks for {@code shims}, the height each support needs (one per support).
+     */
+    public void solve(double[] shims) {
+        this.shims = shims;
+        for (int t = 0; t < types; t++) {
+            remaining[t] = inventory.count(t);
+        }
+        bestKey = Long.MAX_VALUE;
+        nodes = 0;
+        place(0, 0, 0.0, 0);
+        this.shims = null;
+    }
+
+    public int blocks(int support, int type) {
+        return best[support][type];
+    }
+
+    public double lift(int support) {
+        return bestLift[support];
+    }
+
+    /**
+     * Largest height difference left between two supports once the blocks are in.
+     */
+    public double residual() {
+        return bestSpread;
+    }
+
+    public double totalLift() {
+        return bestTotal;
+    }
+
+    /**
+     * False if the last solve ran out of steps, so a better plan may exist.
+     */
+    public boolean isExhaustive() {
+        return nodes <= MAX_NODES;
+    }
+
+    private void place(int support, int type, double height, int blocks) {
+        // The empty plan comes first, so there is always a best plan to fall back on
+        if (++nodes > MAX_NODES) {
+            return;
+        }
+        if (type == types) {
+            currentLift[support] = height;
+            if (isWorse(support)) {
+                return;
+            }
+            if (support + 1 == supports) {
+                record(blocks);
+            } else {
+                place(support + 1, 0, 0.0, blocks);
+            }
+            return;
+        }
+        double blockHeight = inventory.height(type);
+        int available = remaining[type];
+        for (int k = 0; k <= available && nodes <= MAX_NODES; k++) {
+            current[support][type] = k;
+            remaining[type] = available - k;
+            place(support, type + 1, height + k * blockHeight, blocks + k);
+        }
+        remaining[type] = available;
+        current[support][type] = 0;
+    }
+
+    // Adding supports only widens the spread and adds lift, so a partial plan can be cut early
+    private boolean isWorse(int lastSupport) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double total = 0;
+        for (int i = 0; i <= lastSupport; i++) {
+            double error = currentLift[i] - shims[i];
+            min = Math.min(min, error);
+            max = Math.max(max, error);
+            total += currentLift[i];
+        }
+        long key = Math.round((max - min) / resolution);
+        return key > bestKey || (key == bestKey && total > bestTotal + LIFT_EPSILON);
+    }
+
+    private void record(int blocks) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double total = 0;
+        for (int i = 0; i < supports; i++) {
+            double error = currentLift[i] - shims[i];
+            min = Math.min(min, error);
+            max = Math.max(max, error);
+            total += currentLift[i];
+        }
+        long key = Math.round((max - min) / resolution);
+        boolean better = key < bestKey
+                || (key == bestKey && (total < bestTotal - LIFT_EPSILON
+                || (total <= bestTotal + LIFT_EPSILON && blocks < bestBlocks)));
+        if (!better) {
+            return;
+        }
+        bestKey = key;
+        bestSpread = max - min;
+        bestTotal = total;
+        bestBlocks = blocks;
+        for (int i = 0; i < supports; i++) {
+            System.arraycopy(current[i], 0, best[i], 0, types);
+            bestLift[i] = currentLift[i];
+        }
+    }
+}
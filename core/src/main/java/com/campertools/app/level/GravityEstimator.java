@@ -0,0 +1,103 @@
+package com.campertools.app.level;
+
+/**
+ * Complementary filter that tracks the gravity vector in device coordinates.
+ * Gyroscope rates rotate the estimate between samples, so it follows real motion without
+ * lag; accelerometer readings slowly pull it back, which cancels gyro drift. Readings whose
+ * magnitude is far from 1 g (a slammed door, someone walking) get little weight.
+ * Timestamps are {@code SensorEvent.timestamp} nanoseconds.
+ */
+public final class GravityEstimator {
+
+    // Longer gaps (e.g. after the listener was paused) are not integrated
+    private static final double MAX_GYRO_GAP_S = 0.5;
+    // Relative deviation from 1 g at which an accelerometer reading counts half
+    private static final float SHOCK_SCALE = 0.05f;
+
+    private final float timeConstantS;
+
+    private float gx;
+    private float gy;
+    private float gz;
+    private boolean initialized = false;
+    private long lastAccelNs;
+    private long lastGyroNs;
+    private boolean hasGyroTime = false;
+
+    /**
+     * @param timeConstantS how long the accelerometer takes to pull the estimate most of the
+     *                      way; shorter follows the accelerometer more closely, longer trusts the gyro
+     */
+    public GravityEstimator(float timeConstantS) {
+        this.timeConstantS = timeConstantS;
+    }
+
+    public void updateAccel(float ax, float ay, float az, long timestampNs) {
+        if (!initialized) {
+            gx = ax;
+            gy = ay;
+            gz = az;
+            lastAccelNs = timestampNs;
+            initialized = true;
+            return;
+        }
+        double dt = (timestampNs - lastAccelNs) * 1e-9;
+        lastAccelNs = timestampNs;
+        if (dt <= 0) {
+            return;
+        }
+        float weight = (float) (dt / (timeConstantS + dt));
+        float magnitude = (float) Math.sqrt(ax * ax + ay * ay + az * az);
+        float shock = Math.abs(magnitude - TiltProcessor.STANDARD_GRAVITY) / TiltProcessor.STANDARD_GRAVITY / SHOCK_SCALE;
+        weight /= 1f + shock * shock;
+        gx += weight * (ax - gx);
+        gy += weight * (ay - gy);
+        gz += weight * (az - gz);
+    }
+
+    /**
+     * Feeds one gyroscope reading in rad/s around the device axes.
+     */
+    public void updateGyro(float wx, float wy, float wz, long timestampNs) {
+        if (!hasGyroTime) {
+            lastGyroNs = timestampNs;
+            hasGyroTime = true;
+            return;
+        }
+        double dt = (timestampNs - lastGyroNs) * 1e-9;
+        lastGyroNs = timestampNs;
+        if (!initialized || dt <= 0 || dt > MAX_GYRO_GAP_S) {
+            return;
+        }
+        // A world-fixed vector seen from a rotating frame turns the other way: dg/dt = g x w
+        float step = (float) dt;
+        float nx = gx + step * (gy * wz - gz * wy);
+        float ny = gy + step * (gz * wx - gx * wz);
+        float nz = gz + step * (gx * wy - gy * wx);
+        // Explicit integration lengthens the vector slightly; keep the magnitude
+        float before = (float) Math.sqrt(gx * gx + gy * gy + gz * gz);
+        float after = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        float scale = after > 0f ? before / after : 1f;
+        gx = nx * scale;
+        gy = ny * scale;
+        gz = nz * scale;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Writes the gravity estimate in m/s² to {@code out[0..2]}.
+     */
+    public void copyTo(float[] out) {
+        out[0] = gx;
+        out[1] = gy;
+        out[2] = gz;
+    }
+
+    public void reset() {
+        initialized = false;
+        hasGyroTime = false;
+    }
+}
@@ -0,0 +1,168 @@
+package com.campertools.app.level;
+
+/**
+ * Finds how far to raise each support group of a {@link SupportLayout} to level a rigid vehicle.
+ * The measured slopes give every point a height (x * slopeX + y * slopeY). The solver then picks
+ * the level plane and the group lifts that minimise the summed squared distance of the lifted
+ * points from that plane. Block groups can only go up, jacks can go either way, and fixed
+ * points stay put. With no fixed points this leaves the highest block group on the ground,
+ * the same as shimming to the highest wheel.
+ * Solving does not allocate, so it can run for every sensor frame.
+ */
+public final class LevelingSolver {
+
+    private final SupportLayout layout;
+    private final int groups;
+
+    // Per group: point count and centroid, fixed by the layout
+    private final int[] groupSize;
+    private final double[] centroidX;
+    private final double[] centroidY;
+    // Block groups by descending height, rebuilt on every solve
+    private final int[] blockOrder;
+    private final int blockGroups;
+
+    private final double[] groupHeight;
+    private final double[] lift;
+    private final boolean[] clamped;
+    private double levelX;
+    private double levelY;
+    private double rmsResidual;
+    private double maxResidual;
+
+    public LevelingSolver(SupportLayout layout) {
+        this.layout = layout;
+        groups = layout.groupCount();
+        groupSize = new int[groups];
+        centroidX = new double[groups];
+        centroidY = new double[groups];
+        for (int i = 0; i < layout.pointCount(); i++) {
+            int g = layout.group(i);
+            groupSize[g]++;
+            centroidX[g] += layout.x(i);
+            centroidY[g] += layout.y(i);
+        }
+        int blocks = 0;
+        for (int g = 0; g < groups; g++) {
+            centroidX[g] /= groupSize[g];
+            centroidY[g] /= groupSize[g];
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) {
+                blocks++;
+            }
+        }
+        blockGroups = blocks;
+        blockOrder = new int[blocks];
+        groupHeight = new double[groups];
+        lift = new double[groups];
+        clamped = new boolean[groups];
+    }
+
+    public SupportLayout layout() {
+        return layout;
+    }
+
+    /**
+     * Solves for the given slopes (rise per unit to the right and per unit to the front).
+     */
+    public void solve(double slopeX, double slopeY) {
+        for (int g = 0; g < groups; g++) {
+            groupHeight[g] = centroidX[g] * slopeX + centroidY[g] * slopeY;
+        }
+
+        // The level plane is the weighted mean of the fixed points and of the block groups
+        // that sit above it (those stay on the ground); try the top k block groups in turn
+        int n = 0;
+        for (int g = 0; g < groups; g++) {
+            if (layout.groupKind(g) == SupportLayout.BLOCKS) {
+                int j = n++;
+                while (j > 0 && groupHeight[blockOrder[j - 1]] < groupHeight[g]) {
+                    blockOrder[j] = blockOrder[j - 1];
+                    j--;
+                }
+                blockOrder[j] = g;
+            }
+        }
+        double weight = 0;
+        double sumX = 0;
+        double sumY = 0;
+        for (int i = 0; i < layout.pointCount(); i++) {
+            if (layout.groupKind(layout.group(i)) == SupportLayout.FIXED) {
+                weight++;
+                sumX += layout.x(i);
+                sumY += layout.y(i);
+            }
+        }
+        int active = 0;
+        if (weight == 0 && blockGroups == 0) {
+            // Only jacks: settle where they move least
+            for (int g = 0; g < groups; g++) {
+                weight += groupSize[g];
+                sumX += groupSize[g] * centroidX[g];
+                sumY += groupSize[g] * centroidY[g];
+            }
+        } else {
+            while (active < blockGroups) {
+                int g = blockOrder[active];
+                if (weight > 0 && groupHeight[g] <= (sumX * slopeX + sumY * slopeY) / weight) {
+                    break;
+                }
+                weight += groupSize[g];
+                sumX += groupSize[g] * centroidX[g];
+                sumY += groupSize[g] * centroidY[g];
+                active++;
+            }
+        }
+        levelX = sumX / weight;
+        levelY = sumY / weight;
+        double level = levelX * slopeX + levelY * slopeY;
+
+        for (int g = 0; g < groups; g++) {
+            int kind = layout.groupKind(g);
+            double needed = level - groupHeight[g];
+            clamped[g] = kind == SupportLayout.FIXED || (kind == SupportLayout.BLOCKS && needed <= 0);
+            lift[g] = clamped[g] ? 0.0 : needed;
+        }
+
+        double sumSquares = 0;
+        maxResidual = 0;
+        for (int i = 0; i < layout.pointCount(); i++) {
+            int g = layout.group(i);
+            double residual = layout.x(i) * slopeX + layout.y(i) * slopeY + lift[g] - level;
+            sumSquares += residual * residual;
+            maxResidual = Math.max(maxResidual, Math.abs(residual));
+        }
+        rmsResidual = Math.sqrt(sumSquares / layout.pointCount());
+    }
+
+    /**
+     * Lift for a group from the last solve; negative only for jacks, which then go down.
+     */
+    public double lift(int group) {
+        return lift[group];
+    }
+
+    /**
+     * How far {@link #lift} may be off when the slopes are only known to the given
+     * half-widths, treating the two axes as independent.
+     */
+    public double liftError(int group, double slopeErrorX, double slopeErrorY) {
+        if (clamped[group]) {
+            return 0.0;
+        }
+        double dx = (levelX - centroidX[group]) * slopeErrorX;
+        double dy = (levelY - centroidY[group]) * slopeErrorY;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Root mean square distance of the lifted points from level, e.g. a tandem's two wheels
+     * on one ramp height while the vehicle is pitched.
+     */
+    public double rmsResidual() {
+        return rmsResidual;
+    }
+
+    public double maxResidual() {
+        return maxResidual;
+    }
+}
@@ -0,0 +1,112 @@
+package com.campertools.app.level;
+
+/**
+ * One Euro filter (Casiez et al.): a low-pass whose cutoff rises with the signal's speed,
+ * so the output is steady at rest and follows quickly when the device moves.
+ * Smoothing is computed from sample timestamps rather than per sample, so the response
+ * does not depend on the rate a device delivers events at.
+ * Works on vectors of any length; the speed is the length of the derivative vector, so all
+ * axes share one cutoff. {@link #forAngles} filters a heading in degrees across north.
+ */
+public final class OneEuroFilter {
+
+    private static final float DERIVATIVE_CUTOFF_HZ = 1f;
+    // After a longer gap (listener paused) the filter restarts from the next sample
+    private static final double MAX_GAP_S = 1.0;
+
+    private final float minCutoffHz;
+    private final float beta;
+    private final boolean angular;
+    private final float[] value;
+    private final float[] derivative;
+    private final float[] scalar = new float[1];
+    private boolean initialized = false;
+    private long lastNs;
+
+    /**
+     * @param minCutoffHz cutoff at rest; lower is steadier
+     * @param beta        how much the cutoff rises per unit/s of speed; higher lags less
+     */
+    public OneEuroFilter(int dimensions, float minCutoffHz, float beta) {
+        this(dimensions, minCutoffHz, beta, false);
+    }
+
+    private OneEuroFilter(int dimensions, float minCutoffHz, float beta, boolean angular) {
+        this.minCutoffHz = minCutoffHz;
+        this.beta = beta;
+        this.angular = angular;
+        value = new float[dimensions];
+        derivative = new float[dimensions];
+    }
+
+    /**
+     * Single-value filter for angles in degrees; output stays in [0, 360).
+     */
+    public static OneEuroFilter forAngles(float minCutoffHz, float beta) {
+        return new OneEuroFilter(1, minCutoffHz, beta, true);
+    }
+
+    /**
+     * Filters {@code input} sampled at {@code timestampNs} and writes the result to {@code out},
+     * which may be the input array.
+     */
+    public void filter(float[] input, long timestampNs, float[] out) {
+        double dt = (timestampNs - lastNs) * 1e-9;
+        if (!initialized || dt > MAX_GAP_S) {
+            for (int i = 0; i < value.length; i++) {
+                value[i] = angular ? wrap(input[i]) : input[i];
+                derivative[i] = 0f;
+            }
+            lastNs = timestampNs;
+            initialized = true;
+        } else if (dt > 0) {
+            lastNs = timestampNs;
+            float derivativeAlpha = alpha(dt, DERIVATIVE_CUTOFF_HZ);
+            float speedSquared = 0f;
+            for (int i = 0; i < value.length; i++) {
+                float rate = (float) (delta(input[i], value[i]) / dt);
+                derivative[i] += derivativeAlpha * (rate - derivative[i]);
+                speedSquared += derivative[i] * derivative[i];
+            }
+            float valueAlpha = alpha(dt, minCutoffHz + beta * (float) Math.sqrt(speedSquared));
+            for (int i = 0; i < value.length; i++) {
+                float next = value[i] + valueAlpha * delta(input[i], value[i]);
+                value[i] = angular ? wrap(next) : next;
+            }
+        }
+        System.arraycopy(value, 0, out, 0, value.length);
+    }
+
+    public float filter(float input, long timestampNs) {
+        scalar[0] = input;
+        filter(scalar, timestampNs, scalar);
+        return scalar[0];
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public void reset() {
+        initialized = false;
+    }
+
+    private float delta(float input, float current) {
+        float d = input - current;
+        return angular ? (d % 360f + 540f) % 360f - 180f : d;
+    }
+
+    private static float wrap(float degrees) {
+        float wrapped = degrees % 360f;
+        if (wrapped < 0f) {
+            wrapped += 360f;
+        }
+        // A tiny negative value rounds up to exactly 360
+        return wrapped >= 360f ? 0f : wrapped;
+    }
+
+    private static float alpha(double dt, float cutoffHz) {
+        double tau = 1.0 / (2.0 * Math.PI * cutoffHz);
+        return (float) (dt / (dt + tau));
+    }
+}
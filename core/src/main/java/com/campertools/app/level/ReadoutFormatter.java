@@ -0,0 +1,205 @@
+package com.campertools.app.level;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Allocation-free replacement for {@code String.format} on the live readouts.
+ * The pattern is compiled once; {@link #format} then writes into a reused char buffer
+ * meant for {@code TextView.setText(char[], int, int)}; {@link #update} additionally reports
+ * whether the text differs from what was last shown, so unchanged readouts can be skipped.
+ * Supports literal text, {@code %%} and fixed-point placeholders of the form
+ * {@code %[index$][.precision]f}, using the locale's digits and decimal separator.
+ */
+public final class ReadoutFormatter {
+
+    private static final int DEFAULT_PRECISION = 6;
+    // Sign, 19 integer digits, separator
+    private static final int MAX_NUMBER_CHARS = 21;
+    private static final double MAX_SCALED = 1e18;
+
+    private final char[] literals;
+    // One entry per placeholder: where its preceding literal run ends, which argument, how many decimals
+    private final int[] literalEnd;
+    private final int[] argIndex;
+    private final int[] precision;
+    private final long[] scale;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+
+    private final char[] buffer;
+    private final char[] shown;
+    private final char[] digits = new char[20];
+    private int length;
+    private int shownLength = -1;
+
+    public ReadoutFormatter(String pattern, Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        zeroDigit = symbols.getZeroDigit();
+        decimalSeparator = symbols.getDecimalSeparator();
+
+        StringBuilder text = new StringBuilder(pattern.length());
+        List<int[]> specs = new ArrayList<>();
+        int nextArg = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            if (c != '%') {
+                text.append(c);
+                continue;
+            }
+            if (i < pattern.length() && pattern.charAt(i) == '%') {
+                text.append('%');
+                i++;
+                continue;
+            }
+            int number = 0;
+            int start = i;
+            while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                number = number * 10 + (pattern.charAt(i++) - '0');
+            }
+            int arg;
+            if (i > start && i < pattern.length() && pattern.charAt(i) == '$') {
+                arg = number - 1;
+                i++;
+            } else if (i == start) {
+                arg = nextArg++;
+            } else {
+                throw new IllegalArgumentException("Width is not supported: " + pattern);
+            }
+            int digitsAfter = DEFAULT_PRECISION;
+            if (i < pattern.length() && pattern.charAt(i) == '.') {
+                i++;
+                digitsAfter = 0;
+                while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                    digitsAfter = digitsAfter * 10 + (pattern.charAt(i++) - '0');
+                }
+            }
+            if (i >= pattern.length() || pattern.charAt(i) != 'f' || arg < 0 || arg > 1 || digitsAfter > 9) {
+                throw new IllegalArgumentException("Unsupported placeholder in " + pattern);
+            }
+            i++;
+            specs.add(new int[]{text.length(), arg, digitsAfter});
+        }
+
+        literals = text.toString().toCharArray();
+        int count = specs.size();
+        literalEnd = new int[count];
+        argIndex = new int[count];
+        precision = new int[count];
+        scale = new long[count];
+        int capacity = literals.length;
+        for (int k = 0; k < count; k++) {
+            int[] spec = specs.get(k);
+            literalEnd[k] = spec[0];
+            argIndex[k] = spec[1];
+            precision[k] = spec[2];
+            long s = 1;
+            for (int p = 0; p < spec[2]; p++) {
+                s *= 10;
+            }
+            scale[k] = s;
+            capacity += MAX_NUMBER_CHARS + spec[2];
+        }
+        buffer = new char[capacity];
+        shown = new char[capacity];
+    }
+
+    public int format(double value) {
+        return format(value, 0d);
+    }
+
+    /**
+     * Formats the arguments into {@link #chars()} and returns the number of chars written.
+     */
+    public int format(double first, double second) {
+        int out = 0;
+        int literalPos = 0;
+        for (int k = 0; k < literalEnd.length; k++) {
+            int end = literalEnd[k];
+            System.arraycopy(literals, literalPos, buffer, out, end - literalPos);
+            out += end - literalPos;
+            literalPos = end;
+            out = appendFixed(argIndex[k] == 0 ? first : second, k, out);
+        }
+        System.arraycopy(literals, literalPos, buffer, out, literals.length - literalPos);
+        length = out + literals.length - literalPos;
+        return length;
+    }
+
+    public boolean update(double value) {
+        return update(value, 0d);
+    }
+
+    /**
+     * Formats like {@link #format(double, double)} and returns whether the result differs
+     * from the previous {@code update}, i.e. whether the view needs new text.
+     */
+    public boolean update(double first, double second) {
+        int n = format(first, second);
+        if (n == shownLength) {
+            boolean same = true;
+            for (int i = 0; i < n; i++) {
+                if (buffer[i] != shown[i]) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return false;
+            }
+        }
+        System.arraycopy(buffer, 0, shown, 0, n);
+        shownLength = n;
+        return true;
+    }
+
+    /**
+     * Forgets the last shown text, e.g. after the view was given other content.
+     */
+    public void reset() {
+        shownLength = -1;
+    }
+
+    public char[] chars() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    private int appendFixed(double value, int spec, int out) {
+        if (Double.isNaN(value)) {
+            buffer[out++] = 'N';
+            buffer[out++] = 'a';
+            buffer[out++] = 'N';
+            return out;
+        }
+        boolean negative = value < 0 || (value == 0d && 1d / value < 0);
+        double scaledAbs = Math.abs(value) * scale[spec];
+        if (negative) {
+            buffer[out++] = '-';
+        }
+        if (scaledAbs >= MAX_SCALED) {
+            buffer[out++] = '∞';
+            return out;
+        }
+        long scaled = Math.round(scaledAbs);
+        int decimals = precision[spec];
+        int n = 0;
+        do {
+            digits[n++] = (char) (zeroDigit + (int) (scaled % 10));
+            scaled /= 10;
+        } while (scaled > 0 || n <= decimals);
+        for (int d = n - 1; d >= 0; d--) {
+            buffer[out++] = digits[d];
+            if (d == decimals && decimals > 0) {
+                buffer[out++] = decimalSeparator;
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,39 @@
+package com.campertools.app.level;
+
+/**
+ * Filter tunings shared by every screen that reads the sensors, so the level, the
+ * calibration and the compass respond the same way on every device.
+ */
+public final class SensorFilters {
+
+    private SensorFilters() {
+    }
+
+    /**
+     * Raw accelerometer in m/s²; tilting the phone moves the vector a few m/s² per second.
+     */
+    public static OneEuroFilter accelerometer() {
+        return new OneEuroFilter(3, 0.8f, 0.4f);
+    }
+
+    /**
+     * Raw magnetometer in µT; noise is about 0.5 µT while turning sweeps tens of µT per second.
+     */
+    public static OneEuroFilter magnetometer() {
+        return new OneEuroFilter(3, 0.8f, 0.05f);
+    }
+
+    /**
+     * Heading in degrees computed from accelerometer and magnetometer.
+     */
+    public static OneEuroFilter heading() {
+        return OneEuroFilter.forAngles(0.5f, 0.02f);
+    }
+
+    /**
+     * Heading from the platform rotation vector, which the sensor hub has already fused.
+     */
+    public static OneEuroFilter fusedHeading() {
+        return OneEuroFilter.forAngles(2f, 0.02f);
+    }
+}
@@ -0,0 +1,89 @@
+package com.campertools.app.level;
+
+/**
+ * Decides from accelerometer samples whether the device is lying still.
+ * Tracks a time-weighted mean and variance per axis; the device counts as still once the
+ * summed variance has stayed below a threshold for a hold time, and as moving again as soon
+ * as a single sample strays from the mean. Timestamps are {@code SensorEvent.timestamp}.
+ */
+public final class StillnessDetector {
+
+    private static final double WINDOW_S = 1.0;
+
+    private final float stillVariance;
+    private final float motionDeviationSquared;
+    private final long holdNs;
+
+    private final float[] mean = new float[3];
+    private final float[] variance = new float[3];
+    private boolean initialized = false;
+    private long lastNs;
+    // When the variance last went below the threshold, or -1 while it is above
+    private long quietSinceNs = -1;
+    private boolean still = false;
+
+    /**
+     * @param stillVariance    summed per-axis variance in (m/s²)² below which the device is quiet
+     * @param motionDeviation  distance in m/s² from the mean that ends stillness immediately
+     * @param holdMs           how long it must stay quiet before it counts as still
+     */
+    public StillnessDetector(float stillVariance, float motionDeviation, long holdMs) {
+        this.stillVariance = stillVariance;
+        this.motionDeviationSquared = motionDeviation * motionDeviation;
+        this.holdNs = holdMs * 1_000_000L;
+    }
+
+    /**
+     * Feeds one raw accelerometer reading and returns true if the still/moving state changed.
+     */
+    public boolean update(float ax, float ay, float az, long timestampNs) {
+        if (!initialized) {
+            mean[0] = ax;
+            mean[1] = ay;
+            mean[2] = az;
+            variance[0] = variance[1] = variance[2] = stillVariance;
+            lastNs = timestampNs;
+            initialized = true;
+            return false;
+        }
+        double dt = (timestampNs - lastNs) * 1e-9;
+        lastNs = timestampNs;
+        if (dt <= 0) {
+            return false;
+        }
+        float dx = ax - mean[0];
+        float dy = ay - mean[1];
+        float dz = az - mean[2];
+        float weight = (float) (dt / (WINDOW_S + dt));
+        mean[0] += weight * dx;
+        mean[1] += weight * dy;
+        mean[2] += weight * dz;
+        variance[0] += weight * (dx * dx - variance[0]);
+        variance[1] += weight * (dy * dy - variance[1]);
+        variance[2] += weight * (dz * dz - variance[2]);
+
+        boolean jolt = dx * dx + dy * dy + dz * dz > motionDeviationSquared;
+        boolean quiet = !jolt && variance[0] + variance[1] + variance[2] < stillVariance;
+        if (!quiet) {
+            quietSinceNs = -1;
+        } else if (quietSinceNs < 0) {
+            quietSinceNs = timestampNs;
+        }
+        boolean nowStill = quiet && timestampNs - quietSinceNs >= holdNs;
+        if (nowStill == still) {
+            return false;
+        }
+        still = nowStill;
+        return true;
+    }
+
+    public boolean isStill() {
+        return still;
+    }
+
+    public void reset() {
+        initialized = false;
+        quietSinceNs = -1;
+        still = false;
+    }
+}
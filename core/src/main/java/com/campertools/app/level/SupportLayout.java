@@ -0,0 +1,124 @@
+package com.campertools.app.level;
+
+/**
+ * Where a vehicle rests on the ground: support points in vehicle coordinates (x to the right,
+ * y to the front, same unit as the block heights) gathered into groups that are raised together,
+ * such as both wheels of a tandem axle on one side. Each group is {@link #FIXED},
+ * raised on {@link #BLOCKS}, or moved either way by a {@link #JACK}.
+ */
+public final class SupportLayout {
+
+    public static final int FIXED = 0;
+    public static final int BLOCKS = 1;
+    public static final int JACK = 2;
+
+    public static final int VAN = 0;
+    public static final int TANDEM = 1;
+    public static final int TRAILER = 2;
+    public static final int FIFTH_WHEEL = 3;
+    public static final int PRESET_COUNT = 4;
+
+    private final double[] x;
+    private final double[] y;
+    private final int[] group;
+    private final int[] groupKind;
+
+    /**
+     * @param group     the group of each point, 0 .. groupKind.length - 1
+     * @param groupKind {@link #FIXED}, {@link #BLOCKS} or {@link #JACK} per group
+     */
+    public SupportLayout(double[] x, double[] y, int[] group, int[] groupKind) {
+        if (x.length != y.length || x.length != group.length) {
+            throw new IllegalArgumentException("Point arrays differ in length");
+        }
+        boolean[] used = new boolean[groupKind.length];
+        for (int g : group) {
+            if (g < 0 || g >= groupKind.length) {
+                throw new IllegalArgumentException("Bad group " + g);
+            }
+            used[g] = true;
+        }
+        for (int g = 0; g < groupKind.length; g++) {
+            if (!used[g]) {
+                throw new IllegalArgumentException("Group " + g + " has no points");
+            }
+        }
+        this.x = x.clone();
+        this.y = y.clone();
+        this.group = group.clone();
+        this.groupKind = groupKind.clone();
+    }
+
+    /**
+     * Builds one of the presets. Groups come out in the order front left, front right,
+     * rear left, rear right; the trailer presets have a single front group (the jack) and
+     * no front right.
+     *
+     * @param wheelbase   front axle to rear axle, or hitch to axle for the trailers
+     * @param trackWidth  left to right wheel centres
+     * @param axleSpacing between the two axles of a tandem; ignored for single axles
+     */
+    public static SupportLayout preset(int preset, double wheelbase, double trackWidth, double axleSpacing) {
+        double halfTrack = trackWidth / 2.0;
+        double halfBase = wheelbase / 2.0;
+        double halfSpacing = axleSpacing / 2.0;
+        switch (preset) {
+            case VAN:
+                return new SupportLayout(
+                        new double[] {-halfTrack, halfTrack, -halfTrack, halfTrack},
+                        new double[] {halfBase, halfBase, -halfBase, -halfBase},
+                        new int[] {0, 1, 2, 3},
+                        new int[] {BLOCKS, BLOCKS, BLOCKS, BLOCKS});
+            case TANDEM:
+                // Wheelbase runs to the middle of the rear tandem
+                return new SupportLayout(
+                        new double[] {-halfTrack, halfTrack, -halfTrack, -halfTrack, halfTrack, halfTrack},
+                        new double[] {halfBase, halfBase, -halfBase + halfSpacing, -halfBase - halfSpacing,
+                                -halfBase + halfSpacing, -halfBase - halfSpacing},
+                        new int[] {0, 1, 2, 2, 3, 3},
+                        new int[] {BLOCKS, BLOCKS, BLOCKS, BLOCKS});
+            case TRAILER:
+                return new SupportLayout(
+                        new double[] {0.0, -halfTrack, halfTrack},
+                        new double[] {wheelbase, 0.0, 0.0},
+                        new int[] {0, 1, 2},
+                        new int[] {JACK, BLOCKS, BLOCKS});
+            case FIFTH_WHEEL:
+                return new SupportLayout(
+                        new double[] {0.0, -halfTrack, -halfTrack, halfTrack, halfTrack},
+                        new double[] {wheelbase, halfSpacing, -halfSpacing, halfSpacing, -halfSpacing},
+                        new int[] {0, 1, 1, 2, 2},
+                        new int[] {JACK, BLOCKS, BLOCKS});
+            default:
+                throw new IllegalArgumentException("Unknown preset " + preset);
+        }
+    }
+
+    public static boolean hasTandem(int preset) {
+        return preset == TANDEM || preset == FIFTH_WHEEL;
+    }
+
+    public int pointCount() {
+        return x.length;
+    }
+
+    public double x(int point) {
+        return x[point];
+    }
+
+    public double y(int point) {
+        return y[point];
+    }
+
+    public int group(int point) {
+        return group[point];
+    }
+
+    public int groupCount() {
+        return groupKind.length;
+    }
+
+    public int groupKind(int group) {
+        return groupKind[group];
+    }
+}
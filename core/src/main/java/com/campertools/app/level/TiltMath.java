@@ -0,0 +1,39 @@
+package com.campertools.app.level;
+
+/**
+ * The tilt conventions every screen shares. Gravity x/y are fractions of g (sines of roll and
+ * pitch); calibration offsets are stored in degrees and subtracted as sines.
+ */
+public final class TiltMath {
+
+    private TiltMath() {
+    }
+
+    public static float clampUnit(float value) {
+        if (value > 1f) return 1f;
+        if (value < -1f) return -1f;
+        return value;
+    }
+
+    /**
+     * A calibration offset in degrees as the sine that is subtracted from the gravity fraction.
+     */
+    public static float offsetNorm(float offsetDeg) {
+        return (float) Math.sin(Math.toRadians(offsetDeg));
+    }
+
+    /**
+     * Gravity fraction with the calibration offset (from {@link #offsetNorm}) removed.
+     */
+    public static float adjust(float norm, float offsetNorm) {
+        return clampUnit(clampUnit(norm) - offsetNorm);
+    }
+
+    public static double pitchDeg(float normY) {
+        return -Math.asin(normY) * 180.0 / Math.PI;
+    }
+
+    public static double rollDeg(float normX) {
+        return Math.asin(normX) * 180.0 / Math.PI;
+    }
+}
@@ -0,0 +1,113 @@
+package com.campertools.app.level;
+
+/**
+ * Streaming estimate of a static tilt from raw gravity samples (x and y as a fraction of g).
+ * Keeps Welford running means and variances, drops samples that stray more than
+ * {@link #OUTLIER_SIGMAS} standard deviations from the mean once enough are in, and reports a
+ * 95% confidence half-width so the caller can stop as soon as the estimate is good enough.
+ */
+public final class TiltMeasurement {
+
+    public static final double OUTLIER_SIGMAS = 3.0;
+
+    private static final double Z_95 = 1.96;
+    // Outlier gating starts once the spread is known
+    private static final int MIN_SAMPLES = 10;
+    // Below this spread (about 0.1°) nothing counts as an outlier; sensor quantization dominates
+    private static final double NOISE_FLOOR = 0.002;
+
+    private final long minDurationNs;
+
+    private int count;
+    private int rejected;
+    private double meanX;
+    private double meanY;
+    private double m2X;
+    private double m2Y;
+    private long startNs;
+    private long lastNs;
+
+    public TiltMeasurement(long minDurationMs) {
+        this.minDurationNs = minDurationMs * 1_000_000L;
+    }
+
+    public void reset() {
+        count = 0;
+        rejected = 0;
+        meanX = meanY = m2X = m2Y = 0d;
+    }
+
+    /**
+     * Adds one sample; repeated or older timestamps are ignored. Returns false if rejected.
+     */
+    public boolean add(double x, double y, long timestampNs) {
+        if (count > 0 && timestampNs <= lastNs) {
+            return false;
+        }
+        if (count == 0) {
+            startNs = timestampNs;
+        }
+        lastNs = timestampNs;
+        if (count >= MIN_SAMPLES) {
+            double limitX = OUTLIER_SIGMAS * Math.max(stdDevX(), NOISE_FLOOR);
+            double limitY = OUTLIER_SIGMAS * Math.max(stdDevY(), NOISE_FLOOR);
+            if (Math.abs(x - meanX) > limitX || Math.abs(y - meanY) > limitY) {
+                rejected++;
+                return false;
+            }
+        }
+        count++;
+        double dx = x - meanX;
+        meanX += dx / count;
+        m2X += dx * (x - meanX);
+        double dy = y - meanY;
+        meanY += dy / count;
+        m2Y += dy * (y - meanY);
+        return true;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int rejected() {
+        return rejected;
+    }
+
+    public double meanX() {
+        return meanX;
+    }
+
+    public double meanY() {
+        return meanY;
+    }
+
+    /**
+     * 95% confidence half-width of {@link #meanX()}, or infinity with fewer than two samples.
+     */
+    public double halfWidthX() {
+        return count < 2 ? Double.POSITIVE_INFINITY : Z_95 * stdDevX() / Math.sqrt(count);
+    }
+
+    public double halfWidthY() {
+        return count < 2 ? Double.POSITIVE_INFINITY : Z_95 * stdDevY() / Math.sqrt(count);
+    }
+
+    /**
+     * True once the minimum duration has passed and both half-widths are at most {@code tolerance}.
+     */
+    public boolean isConverged(double tolerance) {
+        return count >= MIN_SAMPLES
+                && lastNs - startNs >= minDurationNs
+                && halfWidthX() <= tolerance
+                && halfWidthY() <= tolerance;
+    }
+
+    private double stdDevX() {
+        return count < 2 ? 0d : Math.sqrt(m2X / (count - 1));
+    }
+
+    private double stdDevY() {
+        return count < 2 ? 0d : Math.sqrt(m2Y / (count - 1));
+    }
+}
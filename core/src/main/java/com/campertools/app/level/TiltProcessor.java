@@ -0,0 +1,102 @@
+package com.campertools.app.level;
+
+/**
+ * Turns filtered gravity readings into bubble position and pitch/roll angles,
+ * and smooths the compass heading.
+ * All state lives in fields, so processing a sample does not allocate.
+ */
+public final class TiltProcessor {
+
+    public static final float STANDARD_GRAVITY = 9.80665f;
+
+    private final OneEuroFilter headingFilter;
+
+    // Calibration offsets as sines, refreshed only when the calibration changes
+    private float offsetPitchNorm = 0f;
+    private float offsetRollNorm = 0f;
+
+    private boolean tiltInitialized = false;
+    private float smoothNormX = 0f;
+    private float smoothNormY = 0f;
+    private float adjustedX = 0f;
+    private float adjustedY = 0f;
+    private double pitchDeg = 0d;
+    private double rollDeg = 0d;
+    private float headingDeg = Float.NaN;
+
+    public TiltProcessor(OneEuroFilter headingFilter) {
+        this.headingFilter = headingFilter;
+    }
+
+    public void setOffsets(float pitchOffsetDeg, float rollOffsetDeg) {
+        offsetPitchNorm = TiltMath.offsetNorm(pitchOffsetDeg);
+        offsetRollNorm = TiltMath.offsetNorm(rollOffsetDeg);
+    }
+
+    /**
+     * Feeds one gravity reading in m/s² (device x and y axes), already filtered by the caller.
+     */
+    public void updateTilt(float ax, float ay) {
+        smoothNormX = TiltMath.clampUnit(ax / STANDARD_GRAVITY);
+        smoothNormY = TiltMath.clampUnit(ay / STANDARD_GRAVITY);
+        tiltInitialized = true;
+
+        adjustedX = TiltMath.adjust(smoothNormX, offsetRollNorm);
+        adjustedY = TiltMath.adjust(smoothNormY, offsetPitchNorm);
+        pitchDeg = TiltMath.pitchDeg(adjustedY);
+        rollDeg = TiltMath.rollDeg(adjustedX);
+    }
+
+    /**
+     * Feeds one raw azimuth in degrees; smoothing takes the shortest path around the circle.
+     */
+    public void updateHeading(float azimuthDeg, long timestampNs) {
+        headingDeg = headingFilter.filter(azimuthDeg, timestampNs);
+    }
+
+    /**
+     * Filtered gravity x/y as a fraction of g, before the calibration offsets.
+     */
+    public float getSmoothNormX() {
+        return smoothNormX;
+    }
+
+    public float getSmoothNormY() {
+        return smoothNormY;
+    }
+
+    /**
+     * Bubble position in [-1, 1] after the calibration offsets.
+     */
+    public float getAdjustedX() {
+        return adjustedX;
+    }
+
+    public float getAdjustedY() {
+        return adjustedY;
+    }
+
+    public double getPitchDeg() {
+        return pitchDeg;
+    }
+
+    public double getRollDeg() {
+        return rollDeg;
+    }
+
+    public float getHeadingDeg() {
+        return headingDeg;
+    }
+
+    public void copyTo(TiltReading out) {
+        out.hasTilt = tiltInitialized;
+        out.adjustedX = adjustedX;
+        out.adjustedY = adjustedY;
+        out.pitchDeg = pitchDeg;
+        out.rollDeg = rollDeg;
+        out.smoothNormX = smoothNormX;
+        out.smoothNormY = smoothNormY;
+        out.hasHeading = !Float.isNaN(headingDeg);
+        out.headingDeg = headingDeg;
+    }
+}
@@ -0,0 +1,30 @@
+package com.campertools.app.level;
+
+/**
+ * Mutable copy of a {@link TiltProcessor}'s outputs, used to hand one sensor sample's
+ * results from the sensor thread to the UI without allocating. Instances are reused.
+ */
+public final class TiltReading {
+
+    public boolean hasTilt;
+    public float adjustedX;
+    public float adjustedY;
+    public double pitchDeg;
+    public double rollDeg;
+    public float smoothNormX;
+    public float smoothNormY;
+    public boolean hasHeading;
+    public float headingDeg = Float.NaN;
+
+    public void set(TiltReading other) {
+        hasTilt = other.hasTilt;
+        adjustedX = other.adjustedX;
+        adjustedY = other.adjustedY;
+        pitchDeg = other.pitchDeg;
+        rollDeg = other.rollDeg;
+        smoothNormX = other.smoothNormX;
+        smoothNormY = other.smoothNormY;
+        hasHeading = other.hasHeading;
+        headingDeg = other.headingDeg;
+    }
+}
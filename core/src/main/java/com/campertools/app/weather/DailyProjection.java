@@ -0,0 +1,96 @@
+package com.campertools.app.weather;
+
+import java.util.Arrays;
+
+/**
+ * The daily forecast columns converted to one {@link UnitSystem}, in buffers reused across
+ * projections. Switching units re-projects the whole forecast with one loop per column;
+ * series the response did not contain read as NaN.
+ */
+public final class DailyProjection {
+
+    private double[] temperatureMax = new double[0];
+    private double[] temperatureMin = new double[0];
+    private double[] precipitation = new double[0];
+    private double[] windGustMax = new double[0];
+    private int[] windDirectionBucket = new int[0];
+    private int dayCount;
+    private UnitSystem units = UnitSystem.METRIC;
+
+    public void project(ForecastFrame forecast, UnitSystem units) {
+        int n = forecast.dayCount();
+        if (temperatureMax.length < n) {
+            temperatureMax = new double[n];
+            temperatureMin = new double[n];
+            precipitation = new double[n];
+            windGustMax = new double[n];
+            windDirectionBucket = new int[n];
+        }
+        dayCount = n;
+        this.units = units;
+
+        if (fits(forecast.dailyTemperatureMaxC, n)) {
+            units.temperatures(forecast.dailyTemperatureMaxC, temperatureMax);
+        } else {
+            Arrays.fill(temperatureMax, Double.NaN);
+        }
+        if (fits(forecast.dailyTemperatureMinC, n)) {
+            units.temperatures(forecast.dailyTemperatureMinC, temperatureMin);
+        } else {
+            Arrays.fill(temperatureMin, Double.NaN);
+        }
+        if (fits(forecast.dailyPrecipitationSumMm, n)) {
+            units.precipitations(forecast.dailyPrecipitationSumMm, precipitation);
+        } else {
+            Arrays.fill(precipitation, Double.NaN);
+        }
+        if (fits(forecast.dailyWindGustsMaxKmh, n)) {
+            units.speeds(forecast.dailyWindGustsMaxKmh, windGustMax);
+        } else {
+            Arrays.fill(windGustMax, Double.NaN);
+        }
+        if (fits(forecast.dailyWindDirectionDominantDeg, n)) {
+            WeatherUnits.directionBuckets(forecast.dailyWindDirectionDominantDeg, windDirectionBucket);
+        } else {
+            Arrays.fill(windDirectionBucket, -1);
+        }
+    }
+
+    public UnitSystem units() {
+        return units;
+    }
+
+    public int dayCount() {
+        return dayCount;
+    }
+
+    public double temperatureMax(int day) {
+        return temperatureMax[day];
+    }
+
+    public double temperatureMin(int day) {
+        return temperatureMin[day];
+    }
+
+    public double precipitation(int day) {
+        return precipitation[day];
+    }
+
+    public double windGustMax(int day) {
+        return windGustMax[day];
+    }
+
+    /**
+     * Cardinal label of the dominant wind direction, or null when the column or that day's
+     * value was not reported.
+     */
+    public String windDirection(int day) {
+        int bucket = windDirectionBucket[day];
+        return bucket >= 0 ? WeatherUnits.cardinalLabel(bucket) : null;
+    }
+
+    // Daily columns of one response share the time axis length; anything else is treated as absent
+    private static boolean fits(double[] series, int n) {
+        return series != null && series.length == n;
+    }
+}
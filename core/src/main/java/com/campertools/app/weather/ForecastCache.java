@@ -0,0 +1,263 @@
+package com.campertools.app.weather;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Disk-backed forecast cache keyed by a quantized lat/lon cell.
+ * Each entry is one file holding a small header line followed by the raw response body,
+ * which is written while the response is being parsed and read back as a stream.
+ * Entries carry their own expiry time and an opaque tag describing what was fetched
+ * (a {@link ForecastRequest#signature()}); the directory is trimmed least-recently-used first
+ * once it grows past {@code maxBytes}.
+ */
+public final class ForecastCache {
+
+    public static final String DIRECTORY_NAME = "forecast";
+    public static final double CELL_SIZE_DEG = 0.05;
+    public static final long DEFAULT_MAX_BYTES = 256 * 1024L;
+
+    private static final String FILE_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MAX_HEADER_LENGTH = 64;
+    private static final long ABANDONED_TEMP_MS = 60 * 60_000L;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    // Several screens may open their own cache on the same directory.
+    private static final Object LOCK = new Object();
+
+    private final File directory;
+    private final long maxBytes;
+
+    public ForecastCache(File directory) {
+        this(directory, DEFAULT_MAX_BYTES);
+    }
+
+    public ForecastCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    public static String cellKey(double latitude, double longitude) {
+        long latCell = (long) Math.floor(latitude / CELL_SIZE_DEG);
+        long lonCell = (long) Math.floor(longitude / CELL_SIZE_DEG);
+        return String.format(Locale.US, "%d_%d", latCell, lonCell);
+    }
+
+    /**
+     * Returns the cached entry for {@code key}, or null if there is none or it cannot be read.
+     */
+    public Entry get(String key) {
+        synchronized (LOCK) {
+            File file = fileFor(key);
+            if (!file.isFile()) {
+                return null;
+            }
+            try (InputStream in = new FileInputStream(file)) {
+                String[] parts = readHeader(in).split(" ");
+                if (parts.length != 2 && parts.length != 3) {
+                    file.delete();
+                    return null;
+                }
+                long fetchedAtMs = Long.parseLong(parts[0]);
+                long expiresAtMs = Long.parseLong(parts[1]);
+                String tag = parts.length == 3 ? parts[2] : "";
+                file.setLastModified(System.currentTimeMillis());
+                return new Entry(file, fetchedAtMs, expiresAtMs, tag);
+            } catch (IOException | NumberFormatException e) {
+                file.delete();
+                return null;
+            }
+        }
+    }
+
+    public void remove(String key) {
+        synchronized (LOCK) {
+            fileFor(key).delete();
+        }
+    }
+
+    /**
+     * Starts writing a new entry. The body is streamed to a temporary file and only
+     * replaces the current entry on {@link Editor#commit()}. The tag must not contain
+     * spaces or line breaks.
+     */
+    public Editor edit(String key, long fetchedAtMs, long ttlMs, String tag) throws IOException {
+        synchronized (LOCK) {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Cannot create " + directory);
+            }
+        }
+        File temp = File.createTempFile(key + "-part", TEMP_SUFFIX, directory);
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(temp));
+        String header = fetchedAtMs + " " + (fetchedAtMs + ttlMs) + " " + tag + "\n";
+        out.write(header.getBytes(UTF_8));
+        return new Editor(key, temp, out);
+    }
+
+    public void put(String key, String json, long fetchedAtMs, long ttlMs, String tag) throws IOException {
+        Editor editor = edit(key, fetchedAtMs, ttlMs, tag);
+        try {
+            editor.body().write(json.getBytes(UTF_8));
+            editor.commit();
+        } catch (IOException e) {
+            editor.abort();
+            throw e;
+        }
+    }
+
+    private static String readHeader(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder(32);
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (sb.length() == MAX_HEADER_LENGTH) {
+                throw new IOException("Header too long");
+            }
+            sb.append((char) c);
+        }
+        if (c == -1) {
+            throw new IOException("Truncated entry");
+        }
+        return sb.toString();
+    }
+
+    private void trimToSize(File keep) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long total = 0L;
+        for (File f : files) {
+            if (f.getName().endsWith(TEMP_SUFFIX)) {
+                if (now - f.lastModified() > ABANDONED_TEMP_MS) {
+                    f.delete();
+                }
+                continue;
+            }
+            total += f.length();
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(a.lastModified(), b.lastModified());
+            }
+        });
+        for (File f : files) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (f.equals(keep) || f.getName().endsWith(TEMP_SUFFIX)) {
+                continue;
+            }
+            long length = f.length();
+            if (f.delete()) {
+                total -= length;
+            }
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, key + FILE_SUFFIX);
+    }
+
+    public final class Editor {
+        private final String key;
+        private final File temp;
+        private final OutputStream out;
+        private boolean done = false;
+
+        private Editor(String key, File temp, OutputStream out) {
+            this.key = key;
+            this.temp = temp;
+            this.out = out;
+        }
+
+        public OutputStream body() {
+            return out;
+        }
+
+        public void commit() throws IOException {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                out.close();
+            } catch (IOException e) {
+                temp.delete();
+                throw e;
+            }
+            synchronized (LOCK) {
+                File file = fileFor(key);
+                if (!temp.renameTo(file)) {
+                    temp.delete();
+                    throw new IOException("Cannot write " + file);
+                }
+                trimToSize(file);
+            }
+        }
+
+        public void abort() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // Deleted below either way
+            }
+            temp.delete();
+        }
+    }
+
+    public static final class Entry {
+        private final File file;
+        public final long fetchedAtMs;
+        public final long expiresAtMs;
+        public final String tag;
+
+        Entry(File file, long fetchedAtMs, long expiresAtMs, String tag) {
+            this.file = file;
+            this.fetchedAtMs = fetchedAtMs;
+            this.expiresAtMs = expiresAtMs;
+            this.tag = tag;
+        }
+
+        /**
+         * Opens the cached response body, positioned after the header line.
+         */
+        public InputStream openBody() throws IOException {
+            InputStream in = new BufferedInputStream(new FileInputStream(file));
+            try {
+                readHeader(in);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+            return in;
+        }
+
+        public boolean isFresh(long nowMs) {
+            return nowMs < expiresAtMs;
+        }
+
+        public long ageMs(long nowMs) {
+            return nowMs - fetchedAtMs;
+        }
+    }
+}
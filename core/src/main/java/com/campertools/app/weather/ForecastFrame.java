@@ -0,0 +1,160 @@
+package com.campertools.app.weather;
+
+/**
+ * Immutable columnar view of one forecast response, built once per fetch.
+ * Every hourly and daily variable is a primitive array parallel to its epoch-seconds
+ * time column, so screens can aggregate over index ranges without boxing or parsing.
+ * Missing numeric values are NaN ({@link #MISSING_CODE} for integer columns and
+ * {@link #MISSING_TIME} for time columns); series the response did not contain are null.
+ */
+public final class ForecastFrame {
+
+    public static final int MISSING_CODE = -1;
+    public static final long MISSING_TIME = Long.MIN_VALUE;
+    public static final long HOUR_SECONDS = 3600L;
+
+    public final int utcOffsetSeconds;
+
+    public final boolean hasCurrentWeather;
+    public final double currentTempC;
+    public final double currentWindKmh;
+    public final double currentWindDirectionDeg;
+
+    public final long[] hourlyTime;
+    public final double[] hourlyTemperatureC;
+    public final double[] hourlyPrecipitationMm;
+    public final int[] hourlyWeatherCode;
+    public final double[] hourlyWindDirectionDeg;
+    public final double[] hourlyCloudCoverPercent;
+    public final double[] hourlySunshineSeconds;
+    public final int[] hourlyIsDay;
+
+    public final long[] dailyTime;
+    public final long[] dailySunrise;
+    public final long[] dailySunset;
+    public final double[] dailyWindGustsMaxKmh;
+    public final double[] dailyTemperatureMaxC;
+    public final double[] dailyTemperatureMinC;
+    public final double[] dailyPrecipitationSumMm;
+    public final double[] dailyWindDirectionDominantDeg;
+    public final int[] dailyWeatherCode;
+
+    private HourlyWindows hourlyWindows;
+
+    private ForecastFrame(Builder b) {
+        utcOffsetSeconds = b.utcOffsetSeconds;
+        hasCurrentWeather = b.hasCurrentWeather;
+        currentTempC = b.currentTempC;
+        currentWindKmh = b.currentWindKmh;
+        currentWindDirectionDeg = b.currentWindDirectionDeg;
+        hourlyTime = toEpoch(b.hourlyLocalTime, b.utcOffsetSeconds);
+        hourlyTemperatureC = b.hourlyTemperatureC;
+        hourlyPrecipitationMm = b.hourlyPrecipitationMm;
+        hourlyWeatherCode = b.hourlyWeatherCode;
+        hourlyWindDirectionDeg = b.hourlyWindDirectionDeg;
+        hourlyCloudCoverPercent = b.hourlyCloudCoverPercent;
+        hourlySunshineSeconds = b.hourlySunshineSeconds;
+        hourlyIsDay = b.hourlyIsDay;
+        dailyTime = toEpoch(b.dailyLocalTime, b.utcOffsetSeconds);
+        dailySunrise = toEpoch(b.dailyLocalSunrise, b.utcOffsetSeconds);
+        dailySunset = toEpoch(b.dailyLocalSunset, b.utcOffsetSeconds);
+        dailyWindGustsMaxKmh = b.dailyWindGustsMaxKmh;
+        dailyTemperatureMaxC = b.dailyTemperatureMaxC;
+        dailyTemperatureMinC = b.dailyTemperatureMinC;
+        dailyPrecipitationSumMm = b.dailyPrecipitationSumMm;
+        dailyWindDirectionDominantDeg = b.dailyWindDirectionDominantDeg;
+        dailyWeatherCode = b.dailyWeatherCode;
+    }
+
+    public int hourCount() {
+        return hourlyTime != null ? hourlyTime.length : 0;
+    }
+
+    public int dayCount() {
+        return dailyTime != null ? dailyTime.length : 0;
+    }
+
+    /**
+     * Index of the hourly slot that contains the instant, found by binary search on the time
+     * axis: 0 if the instant precedes the series, {@link #hourCount()} if it lies past the last
+     * slot, or -1 when the response had no hourly time axis.
+     */
+    public int hourIndexAt(long epochSeconds) {
+        long[] time = hourlyTime;
+        if (time == null || time.length == 0) {
+            return -1;
+        }
+        if (epochSeconds < time[0]) {
+            return 0;
+        }
+        int lo = 0;
+        int hi = time.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (time[mid] <= epochSeconds) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (lo == time.length - 1 && epochSeconds >= time[lo] + HOUR_SECONDS) {
+            return time.length;
+        }
+        return lo;
+    }
+
+    /**
+     * Window aggregates over the hourly series, built on first use and shared by every caller
+     * of this frame.
+     */
+    public synchronized HourlyWindows hourlyWindows() {
+        if (hourlyWindows == null) {
+            hourlyWindows = new HourlyWindows(this);
+        }
+        return hourlyWindows;
+    }
+
+    // The response gives wall-clock times at the location; shift them to UTC in place.
+    private static long[] toEpoch(long[] localSeconds, int utcOffsetSeconds) {
+        if (localSeconds == null) {
+            return null;
+        }
+        for (int i = 0; i < localSeconds.length; i++) {
+            if (localSeconds[i] != MISSING_TIME) {
+                localSeconds[i] -= utcOffsetSeconds;
+            }
+        }
+        return localSeconds;
+    }
+
+    static final class Builder {
+        int utcOffsetSeconds;
+        boolean hasCurrentWeather;
+        double currentTempC = Double.NaN;
+        double currentWindKmh = Double.NaN;
+        double currentWindDirectionDeg = Double.NaN;
+
+        long[] hourlyLocalTime;
+        double[] hourlyTemperatureC;
+        double[] hourlyPrecipitationMm;
+        int[] hourlyWeatherCode;
+        double[] hourlyWindDirectionDeg;
+        double[] hourlyCloudCoverPercent;
+        double[] hourlySunshineSeconds;
+        int[] hourlyIsDay;
+
+        long[] dailyLocalTime;
+        long[] dailyLocalSunrise;
+        long[] dailyLocalSunset;
+        double[] dailyWindGustsMaxKmh;
+        double[] dailyTemperatureMaxC;
+        double[] dailyTemperatureMinC;
+        double[] dailyPrecipitationSumMm;
+        double[] dailyWindDirectionDominantDeg;
+        int[] dailyWeatherCode;
+
+        ForecastFrame build() {
+            return new ForecastFrame(this);
+        }
+    }
+}
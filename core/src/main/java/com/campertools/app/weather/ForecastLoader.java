@@ -0,0 +1,217 @@
+package com.campertools.app.weather;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Stale-while-revalidate front for {@link OpenMeteoClient}.
+ * A cached forecast is delivered first; if it is past its TTL a network refresh follows
+ * and is delivered as a second callback. Callbacks run on the executor thread.
+ * Loads for the same {@link ForecastCache#cellKey cache cell} are coalesced: while one is
+ * outstanding, further callers whose {@link ForecastRequest} it covers attach to it and
+ * receive its remaining results. Other callers start a load for the union of both requests,
+ * and a refresh also keeps the variables of the entry it replaces, so one cached response
+ * per cell serves every screen.
+ */
+public final class ForecastLoader {
+
+    public static final long DEFAULT_TTL_MS = 10 * 60_000L;
+    // Older entries are not shown at all: the hourly window would be too far off.
+    public static final long MAX_STALE_MS = 3 * 60 * 60_000L;
+
+    public interface Callback {
+        void onForecast(ForecastFrame forecast, boolean stale);
+
+        void onError(IOException error);
+    }
+
+    interface Fetcher {
+        ForecastFrame fetch(double latitude, double longitude, ForecastRequest request, OutputStream copyTo)
+                throws IOException;
+    }
+
+    private static final Fetcher NETWORK = new Fetcher() {
+        @Override
+        public ForecastFrame fetch(double latitude, double longitude, ForecastRequest request, OutputStream copyTo)
+                throws IOException {
+            return OpenMeteoClient.fetchForecast(latitude, longitude, request, copyTo);
+        }
+    };
+
+    private final ForecastCache cache;
+    private final Executor executor;
+    private final long ttlMs;
+    private final Fetcher fetcher;
+    private final Map<String, Flight> inFlight = new HashMap<>();
+
+    public ForecastLoader(ForecastCache cache, Executor executor) {
+        this(cache, executor, DEFAULT_TTL_MS);
+    }
+
+    public ForecastLoader(ForecastCache cache, Executor executor, long ttlMs) {
+        this(cache, executor, ttlMs, NETWORK);
+    }
+
+    ForecastLoader(ForecastCache cache, Executor executor, long ttlMs, Fetcher fetcher) {
+        this.cache = cache;
+        this.executor = executor;
+        this.ttlMs = ttlMs;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Starts a load, or joins the one already running for the same cell if it covers
+     * {@code request}. Joining twice with the same callback instance does not duplicate deliveries.
+     *
+     * @return true if a new load was started, false if the callback joined an outstanding one
+     */
+    public boolean load(ForecastRequest request, final double latitude, final double longitude, Callback callback) {
+        String key = ForecastCache.cellKey(latitude, longitude);
+        final Flight flight;
+        synchronized (inFlight) {
+            Flight existing = inFlight.get(key);
+            if (existing != null) {
+                if (existing.request.covers(request)) {
+                    if (!existing.callbacks.contains(callback)) {
+                        existing.callbacks.add(callback);
+                    }
+                    return false;
+                }
+                // Ask for both so the entry written last serves the earlier caller too
+                request = existing.request.union(request);
+            }
+            flight = new Flight(key, request);
+            flight.callbacks.add(callback);
+            inFlight.put(key, flight);
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    runFlight(flight, latitude, longitude);
+                } catch (RuntimeException e) {
+                    // A parser or fetcher bug must not leave the flight for later loads to join
+                    flight.finish(null, new IOException("Forecast load failed", e));
+                }
+            }
+        });
+        return true;
+    }
+
+    private void runFlight(Flight flight, double latitude, double longitude) {
+        String key = flight.key;
+        ForecastRequest request = flight.request;
+        long now = System.currentTimeMillis();
+        ForecastCache.Entry entry = cache.get(key);
+        if (entry != null && entry.ageMs(now) < MAX_STALE_MS) {
+            ForecastRequest cachedRequest = ForecastRequest.fromSignature(entry.tag);
+            if (cachedRequest != null) {
+                if (cachedRequest.covers(request)) {
+                    ForecastFrame cached = readEntry(key, entry);
+                    if (cached != null) {
+                        if (entry.isFresh(now)) {
+                            flight.finish(cached, null);
+                            return;
+                        }
+                        flight.deliverStale(cached);
+                    }
+                }
+                // Keep what other screens recently asked for in the replacement entry
+                request = cachedRequest.union(request);
+            }
+        }
+
+        ForecastCache.Editor editor = null;
+        try {
+            editor = cache.edit(key, System.currentTimeMillis(), ttlMs, request.signature());
+        } catch (IOException ignored) {
+            // Fetch without caching
+        }
+        ForecastFrame forecast;
+        try {
+            forecast = fetcher.fetch(latitude, longitude, request, editor != null ? editor.body() : null);
+            if (editor != null) {
+                try {
+                    editor.commit();
+                } catch (IOException ignored) {
+                    // A cache miss next time is fine
+                }
+            }
+        } catch (IOException e) {
+            flight.finish(null, e);
+            return;
+        } finally {
+            // No-op after a commit; otherwise drops the partial body
+            if (editor != null) {
+                editor.abort();
+            }
+        }
+        flight.finish(forecast, null);
+    }
+
+    private ForecastFrame readEntry(String key, ForecastCache.Entry entry) {
+        try (InputStream in = entry.openBody()) {
+            return OpenMeteoParser.parse(in);
+        } catch (IOException e) {
+            cache.remove(key);
+            return null;
+        }
+    }
+
+    private final class Flight {
+        final String key;
+        final ForecastRequest request;
+        // Guarded by inFlight
+        final List<Callback> callbacks = new ArrayList<>();
+        // Callbacks below this index already received a stale copy
+        int staleServed;
+        boolean finished;
+
+        Flight(String key, ForecastRequest request) {
+            this.key = key;
+            this.request = request;
+        }
+
+        void deliverStale(ForecastFrame stale) {
+            List<Callback> targets;
+            synchronized (inFlight) {
+                targets = new ArrayList<>(callbacks);
+                staleServed = targets.size();
+            }
+            for (Callback callback : targets) {
+                callback.onForecast(stale, true);
+            }
+        }
+
+        void finish(ForecastFrame forecast, IOException error) {
+            List<Callback> targets;
+            int served;
+            synchronized (inFlight) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                // A wider flight may have replaced this one in the map
+                if (inFlight.get(key) == this) {
+                    inFlight.remove(key);
+                }
+                targets = new ArrayList<>(callbacks);
+                served = staleServed;
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                if (forecast != null) {
+                    targets.get(i).onForecast(forecast, false);
+                } else if (i >= served) {
+                    // Callers already showing a stale copy keep it rather than an error
+                    targets.get(i).onError(error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.campertools.app.weather;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes forecast results to the screens that asked for them. Each observer declares a
+ * {@link ForecastRequest} and follows the {@link ForecastCache#cellKey cache cell} of the
+ * latest refresh of that request; it only sees frames for its cell that satisfy its request,
+ * and errors from refreshes of its request for its cell. Not thread-safe.
+ */
+public final class ForecastObservers<O> {
+
+    private final List<O> observers = new ArrayList<>();
+    private final List<ForecastRequest> requests = new ArrayList<>();
+    // Null until a refresh of the observer's request names a cell
+    private final List<String> cells = new ArrayList<>();
+
+    public void add(ForecastRequest request, O observer) {
+        int index = observers.indexOf(observer);
+        if (index >= 0) {
+            if (!requests.get(index).equals(request)) {
+                requests.set(index, request);
+                cells.set(index, null);
+            }
+        } else {
+            observers.add(observer);
+            requests.add(request);
+            cells.add(null);
+        }
+    }
+
+    public void remove(O observer) {
+        int index = observers.indexOf(observer);
+        if (index >= 0) {
+            observers.remove(index);
+            requests.remove(index);
+            cells.remove(index);
+        }
+    }
+
+    /**
+     * Points every observer of {@code request} at {@code cell}.
+     */
+    public void watch(ForecastRequest request, String cell) {
+        for (int i = 0; i < observers.size(); i++) {
+            if (requests.get(i).equals(request)) {
+                cells.set(i, cell);
+            }
+        }
+    }
+
+    /**
+     * Observers to hand {@code forecast} for {@code cell} to, as a copy that stays valid if
+     * they add or remove observers while being called.
+     */
+    public List<O> forFrame(String cell, ForecastFrame forecast) {
+        List<O> targets = new ArrayList<>();
+        for (int i = 0; i < observers.size(); i++) {
+            if (cell.equals(cells.get(i)) && requests.get(i).isSatisfiedBy(forecast)) {
+                targets.add(observers.get(i));
+            }
+        }
+        return targets;
+    }
+
+    // Only observers of the failed load hear about it; others may be showing good data
+    public List<O> forError(String cell, ForecastRequest request) {
+        List<O> targets = new ArrayList<>();
+        for (int i = 0; i < observers.size(); i++) {
+            if (cell.equals(cells.get(i)) && requests.get(i).equals(request)) {
+                targets.add(observers.get(i));
+            }
+        }
+        return targets;
+    }
+}
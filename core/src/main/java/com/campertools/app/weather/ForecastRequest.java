@@ -0,0 +1,258 @@
+package com.campertools.app.weather;
+
+import java.util.Locale;
+
+/**
+ * Declares which Open-Meteo variables a screen needs and how far ahead.
+ * Variables are bit flags so requests can be compared and merged cheaply; the cache
+ * stores the {@link #signature()} of the request each entry was fetched for.
+ */
+public final class ForecastRequest {
+
+    public static final int HOURLY_TEMPERATURE = 1;
+    public static final int HOURLY_PRECIPITATION = 1 << 1;
+    public static final int HOURLY_WEATHER_CODE = 1 << 2;
+    public static final int HOURLY_WIND_DIRECTION = 1 << 3;
+    public static final int HOURLY_CLOUD_COVER = 1 << 4;
+    public static final int HOURLY_SUNSHINE = 1 << 5;
+    public static final int HOURLY_IS_DAY = 1 << 6;
+
+    public static final int DAILY_SUNRISE = 1;
+    public static final int DAILY_SUNSET = 1 << 1;
+    public static final int DAILY_WIND_GUSTS_MAX = 1 << 2;
+    public static final int DAILY_TEMPERATURE_MAX = 1 << 3;
+    public static final int DAILY_TEMPERATURE_MIN = 1 << 4;
+    public static final int DAILY_PRECIPITATION_SUM = 1 << 5;
+    public static final int DAILY_WIND_DIRECTION_DOMINANT = 1 << 6;
+    public static final int DAILY_WEATHER_CODE = 1 << 7;
+
+    public static final int MAX_FORECAST_DAYS = 16;
+
+    private static final String[] HOURLY_NAMES = {
+            "temperature_2m", "precipitation", "weathercode", "winddirection_10m",
+            "cloudcover", "sunshine_duration", "is_day"
+    };
+    private static final String[] DAILY_NAMES = {
+            "sunrise", "sunset", "windgusts_10m_max", "temperature_2m_max",
+            "temperature_2m_min", "precipitation_sum", "winddirection_10m_dominant", "weathercode"
+    };
+
+    public final boolean currentWeather;
+    public final int hourly;
+    public final int daily;
+    // Counted from local midnight today, as the API does
+    public final int forecastDays;
+
+    private ForecastRequest(boolean currentWeather, int hourly, int daily, int forecastDays) {
+        this.currentWeather = currentWeather;
+        this.hourly = hourly;
+        this.daily = daily;
+        this.forecastDays = forecastDays;
+    }
+
+    /**
+     * True if a response to this request contains everything {@code other} asks for.
+     */
+    public boolean covers(ForecastRequest other) {
+        if (other.currentWeather && !currentWeather) {
+            return false;
+        }
+        if ((hourly & other.hourly) != other.hourly || (daily & other.daily) != other.daily) {
+            return false;
+        }
+        boolean needsSeries = other.hourly != 0 || other.daily != 0;
+        return !needsSeries || forecastDays >= other.forecastDays;
+    }
+
+    public ForecastRequest union(ForecastRequest other) {
+        if (covers(other)) {
+            return this;
+        }
+        if (other.covers(this)) {
+            return other;
+        }
+        return new ForecastRequest(
+                currentWeather || other.currentWeather,
+                hourly | other.hourly,
+                daily | other.daily,
+                Math.max(forecastDays, other.forecastDays)
+        );
+    }
+
+    /**
+     * True if {@code frame} has every column and the full horizon this request asks for.
+     */
+    public boolean isSatisfiedBy(ForecastFrame frame) {
+        if (currentWeather && !frame.hasCurrentWeather) {
+            return false;
+        }
+        if (hourly != 0) {
+            // A day has 23 hours when the clocks go forward
+            if (frame.hourCount() < forecastDays * 23
+                    || !hasHourly(HOURLY_TEMPERATURE, frame.hourlyTemperatureC)
+                    || !hasHourly(HOURLY_PRECIPITATION, frame.hourlyPrecipitationMm)
+                    || !hasHourly(HOURLY_WEATHER_CODE, frame.hourlyWeatherCode)
+                    || !hasHourly(HOURLY_WIND_DIRECTION, frame.hourlyWindDirectionDeg)
+                    || !hasHourly(HOURLY_CLOUD_COVER, frame.hourlyCloudCoverPercent)
+                    || !hasHourly(HOURLY_SUNSHINE, frame.hourlySunshineSeconds)
+                    || !hasHourly(HOURLY_IS_DAY, frame.hourlyIsDay)) {
+                return false;
+            }
+        }
+        if (daily != 0) {
+            return frame.dayCount() >= forecastDays
+                    && hasDaily(DAILY_SUNRISE, frame.dailySunrise)
+                    && hasDaily(DAILY_SUNSET, frame.dailySunset)
+                    && hasDaily(DAILY_WIND_GUSTS_MAX, frame.dailyWindGustsMaxKmh)
+                    && hasDaily(DAILY_TEMPERATURE_MAX, frame.dailyTemperatureMaxC)
+                    && hasDaily(DAILY_TEMPERATURE_MIN, frame.dailyTemperatureMinC)
+                    && hasDaily(DAILY_PRECIPITATION_SUM, frame.dailyPrecipitationSumMm)
+                    && hasDaily(DAILY_WIND_DIRECTION_DOMINANT, frame.dailyWindDirectionDominantDeg)
+                    && hasDaily(DAILY_WEATHER_CODE, frame.dailyWeatherCode);
+        }
+        return true;
+    }
+
+    private boolean hasHourly(int flag, Object column) {
+        return (hourly & flag) == 0 || column != null;
+    }
+
+    private boolean hasDaily(int flag, Object column) {
+        return (daily & flag) == 0 || column != null;
+    }
+
+    /**
+     * Query parameters for this request, starting with '&'.
+     */
+    public String query() {
+        StringBuilder sb = new StringBuilder(160);
+        appendNames(sb, "&hourly=", hourly, HOURLY_NAMES);
+        appendNames(sb, "&daily=", daily, DAILY_NAMES);
+        if (currentWeather) {
+            sb.append("&current_weather=true");
+        }
+        sb.append("&forecast_days=").append(forecastDays);
+        return sb.toString();
+    }
+
+    private static void appendNames(StringBuilder sb, String prefix, int flags, String[] names) {
+        if (flags == 0) {
+            return;
+        }
+        sb.append(prefix);
+        boolean first = true;
+        for (int i = 0; i < names.length; i++) {
+            if ((flags & (1 << i)) != 0) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(names[i]);
+                first = false;
+            }
+        }
+    }
+
+    /**
+     * Compact form without spaces, stored in cache entry headers.
+     */
+    public String signature() {
+        return String.format(Locale.US, "%d.%d.%d.%d", currentWeather ? 1 : 0, hourly, daily, forecastDays);
+    }
+
+    /**
+     * Parses a {@link #signature()}, or returns null if it is not one.
+     */
+    public static ForecastRequest fromSignature(String signature) {
+        if (signature == null) {
+            return null;
+        }
+        String[] parts = signature.split("\\.");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new ForecastRequest(
+                    "1".equals(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3])
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ForecastRequest)) {
+            return false;
+        }
+        ForecastRequest other = (ForecastRequest) o;
+        return currentWeather == other.currentWeather
+                && hourly == other.hourly
+                && daily == other.daily
+                && forecastDays == other.forecastDays;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = currentWeather ? 1 : 0;
+        result = 31 * result + hourly;
+        result = 31 * result + daily;
+        return 31 * result + forecastDays;
+    }
+
+    @Override
+    public String toString() {
+        return "ForecastRequest" + query();
+    }
+
+    public static final class Builder {
+        private boolean currentWeather;
+        private int hourly;
+        private int daily;
+        private int hours;
+        private int days;
+
+        public Builder currentWeather() {
+            currentWeather = true;
+            return this;
+        }
+
+        public Builder hourly(int variables) {
+            hourly |= variables;
+            return this;
+        }
+
+        public Builder daily(int variables) {
+            daily |= variables;
+            return this;
+        }
+
+        /**
+         * Hourly values must reach this many hours past the current hour.
+         */
+        public Builder hours(int count) {
+            hours = Math.max(hours, count);
+            return this;
+        }
+
+        /**
+         * Daily values are needed for today and the following {@code count - 1} days.
+         */
+        public Builder days(int count) {
+            days = Math.max(days, count);
+            return this;
+        }
+
+        public ForecastRequest build() {
+            // Hourly series start at local midnight, so the current hour can be up to 23h in
+            int forDays = hours > 0 ? 1 + (hours + 23) / 24 : 1;
+            int forecastDays = Math.max(1, Math.min(MAX_FORECAST_DAYS, Math.max(forDays, days)));
+            return new ForecastRequest(currentWeather, hourly, daily, forecastDays);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.campertools.app.weather;
+
+/**
+ * Rolling-window aggregates over the hourly series of one {@link ForecastFrame}.
+ * Prefix sums, min/max sparse tables for temperature and an OR sparse table of the hourly
+ * WMO code flags are built once, after which every window query is O(1). Windows are
+ * half-open hour index ranges [from, to) and are clamped to the forecast; a series the
+ * response did not contain reads as all missing.
+ */
+public final class HourlyWindows {
+
+    public static final double PRECIP_THRESHOLD_MM = 0.05;
+
+    private final int hourCount;
+
+    private final double[] tempSum;
+    private final int[] tempCount;
+    private final double[][] tempMin;
+    private final double[][] tempMax;
+    private final int[] log2;
+
+    private final double[] precipSum;
+    private final double[] cloudSum;
+    private final int[] cloudCount;
+    private final double[] sunshineSum;
+    private final int[] daylightCount;
+
+    private final int[] precipHours;
+    private final int[][] codeFlags;
+
+    public HourlyWindows(ForecastFrame forecast) {
+        double[] temps = forecast.hourlyTemperatureC;
+        double[] precip = forecast.hourlyPrecipitationMm;
+        double[] cloud = forecast.hourlyCloudCoverPercent;
+        double[] sunshine = forecast.hourlySunshineSeconds;
+        int[] isDay = forecast.hourlyIsDay;
+        int[] codes = forecast.hourlyWeatherCode;
+
+        int n = forecast.hourCount();
+        n = Math.max(n, length(temps));
+        n = Math.max(n, length(precip));
+        n = Math.max(n, length(cloud));
+        n = Math.max(n, length(sunshine));
+        n = Math.max(n, isDay != null ? isDay.length : 0);
+        n = Math.max(n, codes != null ? codes.length : 0);
+        hourCount = n;
+
+        tempSum = new double[n + 1];
+        tempCount = new int[n + 1];
+        precipSum = new double[n + 1];
+        cloudSum = new double[n + 1];
+        cloudCount = new int[n + 1];
+        sunshineSum = new double[n + 1];
+        daylightCount = new int[n + 1];
+        precipHours = new int[n + 1];
+
+        log2 = new int[n + 1];
+        for (int i = 2; i <= n; i++) {
+            log2[i] = log2[i >> 1] + 1;
+        }
+        int levels = n > 0 ? log2[n] + 1 : 1;
+        tempMin = new double[levels][];
+        tempMax = new double[levels][];
+        codeFlags = new int[levels][];
+        tempMin[0] = new double[n];
+        tempMax[0] = new double[n];
+        codeFlags[0] = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            double t = valueAt(temps, i);
+            boolean hasTemp = !Double.isNaN(t);
+            tempSum[i + 1] = tempSum[i] + (hasTemp ? t : 0d);
+            tempCount[i + 1] = tempCount[i] + (hasTemp ? 1 : 0);
+            tempMin[0][i] = hasTemp ? t : Double.POSITIVE_INFINITY;
+            tempMax[0][i] = hasTemp ? t : Double.NEGATIVE_INFINITY;
+
+            double p = valueAt(precip, i);
+            boolean hasPrecip = !Double.isNaN(p);
+            precipSum[i + 1] = precipSum[i] + (hasPrecip ? p : 0d);
+
+            double c = valueAt(cloud, i);
+            boolean hasCloud = !Double.isNaN(c);
+            cloudSum[i + 1] = cloudSum[i] + (hasCloud ? c : 0d);
+            cloudCount[i + 1] = cloudCount[i] + (hasCloud ? 1 : 0);
+
+            double s = valueAt(sunshine, i);
+            sunshineSum[i + 1] = sunshineSum[i] + (Double.isNaN(s) ? 0d : s);
+            daylightCount[i + 1] = daylightCount[i]
+                    + (isDay != null && i < isDay.length && isDay[i] == 1 ? 1 : 0);
+
+            precipHours[i + 1] = precipHours[i] + (hasPrecip && p > PRECIP_THRESHOLD_MM ? 1 : 0);
+
+            int code = codes != null && i < codes.length ? codes[i] : ForecastFrame.MISSING_CODE;
+            codeFlags[0][i] = WeatherUnits.weatherCodeInfo(code) & WeatherUnits.WMO_FLAG_MASK;
+        }
+
+        for (int k = 1; k < levels; k++) {
+            int half = 1 << (k - 1);
+            int len = n - (1 << k) + 1;
+            double[] prevMin = tempMin[k - 1];
+            double[] prevMax = tempMax[k - 1];
+            double[] curMin = new double[len];
+            double[] curMax = new double[len];
+            int[] prevFlags = codeFlags[k - 1];
+            int[] curFlags = new int[len];
+            for (int i = 0; i < len; i++) {
+                curMin[i] = Math.min(prevMin[i], prevMin[i + half]);
+                curMax[i] = Math.max(prevMax[i], prevMax[i + half]);
+                curFlags[i] = prevFlags[i] | prevFlags[i + half];
+            }
+            tempMin[k] = curMin;
+            tempMax[k] = curMax;
+            codeFlags[k] = curFlags;
+        }
+    }
+
+    public int hourCount() {
+        return hourCount;
+    }
+
+    public int temperatureCount(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        return tempCount[to] - tempCount[from];
+    }
+
+    /** NaN when the window has no temperature readings. */
+    public double minTemperature(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        if (tempCount[to] == tempCount[from]) {
+            return Double.NaN;
+        }
+        int k = log2[to - from];
+        return Math.min(tempMin[k][from], tempMin[k][to - (1 << k)]);
+    }
+
+    /** NaN when the window has no temperature readings. */
+    public double maxTemperature(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        if (tempCount[to] == tempCount[from]) {
+            return Double.NaN;
+        }
+        int k = log2[to - from];
+        return Math.max(tempMax[k][from], tempMax[k][to - (1 << k)]);
+    }
+
+    /** NaN when the window has no temperature readings. */
+    public double meanTemperature(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        int count = tempCount[to] - tempCount[from];
+        return count > 0 ? (tempSum[to] - tempSum[from]) / count : Double.NaN;
+    }
+
+    public double precipitationSum(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        return precipSum[to] - precipSum[from];
+    }
+
+    /** NaN when the window has no cloud cover readings. */
+    public double meanCloudCover(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        int count = cloudCount[to] - cloudCount[from];
+        return count > 0 ? (cloudSum[to] - cloudSum[from]) / count : Double.NaN;
+    }
+
+    public double sunshineSeconds(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        return sunshineSum[to] - sunshineSum[from];
+    }
+
+    public int daylightHours(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        return daylightCount[to] - daylightCount[from];
+    }
+
+    /** True if any hour in the window has more than {@link #PRECIP_THRESHOLD_MM}. */
+    public boolean anyPrecipitation(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        return precipHours[to] > precipHours[from];
+    }
+
+    /**
+     * The OR of the {@link WeatherUnits} WMO_* flags of every hour in the window.
+     */
+    public int weatherFlags(int from, int to) {
+        from = clampFrom(from);
+        to = clampTo(from, to);
+        if (to == from) {
+            return 0;
+        }
+        int k = log2[to - from];
+        return codeFlags[k][from] | codeFlags[k][to - (1 << k)];
+    }
+
+    public boolean anySnow(int from, int to) {
+        return (weatherFlags(from, to) & WeatherUnits.WMO_SNOW) != 0;
+    }
+
+    public boolean anyThunder(int from, int to) {
+        return (weatherFlags(from, to) & WeatherUnits.WMO_THUNDER) != 0;
+    }
+
+    public boolean anyFreezing(int from, int to) {
+        return (weatherFlags(from, to) & WeatherUnits.WMO_FREEZING) != 0;
+    }
+
+    private int clampFrom(int from) {
+        if (from < 0) return 0;
+        return Math.min(from, hourCount);
+    }
+
+    private int clampTo(int from, int to) {
+        if (to > hourCount) return hourCount;
+        return Math.max(to, from);
+    }
+
+    private static double valueAt(double[] series, int i) {
+        return series != null && i < series.length ? series[i] : Double.NaN;
+    }
+
+    private static int length(double[] series) {
+        return series != null ? series.length : 0;
+    }
+}
@@ -0,0 +1,473 @@
+package com.campertools.app.weather;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Minimal pull tokenizer for the JSON Open-Meteo returns.
+ * It is lenient about separators (commas and colons are skipped like whitespace)
+ * and parses numbers straight from its char buffer so arrays can be read without
+ * creating a String per value.
+ */
+final class JsonPullReader {
+
+    static final int BEGIN_OBJECT = 1;
+    static final int END_OBJECT = 2;
+    static final int BEGIN_ARRAY = 3;
+    static final int END_ARRAY = 4;
+    static final int NAME = 5;
+    static final int STRING = 6;
+    static final int NUMBER = 7;
+    static final int BOOLEAN = 8;
+    static final int NULL = 9;
+    static final int END_DOCUMENT = 10;
+
+    private static final int SCOPE_ARRAY = 0;
+    private static final int SCOPE_OBJECT_NAME = 1;
+    private static final int SCOPE_OBJECT_VALUE = 2;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos = 0;
+    private int limit = 0;
+
+    private int[] scopes = new int[16];
+    private int depth = 0;
+
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    JsonPullReader(Reader in) {
+        this.in = in;
+    }
+
+    int peek() throws IOException {
+        int c = nextNonSeparator();
+        switch (c) {
+            case -1:
+                return END_DOCUMENT;
+            case '{':
+                return BEGIN_OBJECT;
+            case '}':
+                return END_OBJECT;
+            case '[':
+                return BEGIN_ARRAY;
+            case ']':
+                return END_ARRAY;
+            case '"':
+                return depth > 0 && scopes[depth - 1] == SCOPE_OBJECT_NAME ? NAME : STRING;
+            case 't':
+            case 'f':
+                return BOOLEAN;
+            case 'n':
+                return NULL;
+            default:
+                return NUMBER;
+        }
+    }
+
+    boolean hasNext() throws IOException {
+        int token = peek();
+        return token != END_OBJECT && token != END_ARRAY && token != END_DOCUMENT;
+    }
+
+    void beginObject() throws IOException {
+        expect('{');
+        push(SCOPE_OBJECT_NAME);
+    }
+
+    void endObject() throws IOException {
+        expect('}');
+        depth--;
+        afterValue();
+    }
+
+    void beginArray() throws IOException {
+        expect('[');
+        push(SCOPE_ARRAY);
+    }
+
+    void endArray() throws IOException {
+        expect(']');
+        depth--;
+        afterValue();
+    }
+
+    String nextName() throws IOException {
+        if (peek() != NAME) {
+            throw syntaxError("Expected a name");
+        }
+        String name = readQuoted();
+        scopes[depth - 1] = SCOPE_OBJECT_VALUE;
+        return name;
+    }
+
+    String nextString() throws IOException {
+        int token = peek();
+        if (token == NULL) {
+            skipLiteral();
+            afterValue();
+            return null;
+        }
+        if (token != STRING) {
+            throw syntaxError("Expected a string");
+        }
+        String value = readQuoted();
+        afterValue();
+        return value;
+    }
+
+    /**
+     * Returns the next number, or NaN for a JSON null.
+     */
+    double nextDouble() throws IOException {
+        int token = peek();
+        if (token == NULL) {
+            skipLiteral();
+            afterValue();
+            return Double.NaN;
+        }
+        if (token != NUMBER) {
+            throw syntaxError("Expected a number");
+        }
+        double value = readNumber();
+        afterValue();
+        return value;
+    }
+
+    int nextInt(int nullValue) throws IOException {
+        double value = nextDouble();
+        return Double.isNaN(value) ? nullValue : (int) value;
+    }
+
+    /**
+     * Reads an ISO-8601 local date ("2024-05-01") or date-time ("2024-05-01T13:00")
+     * string and returns its wall-clock time as seconds since 1970-01-01T00:00,
+     * without creating a String.
+     */
+    long nextLocalDateTimeSeconds(long nullValue) throws IOException {
+        int token = peek();
+        if (token == NULL) {
+            skipLiteral();
+            afterValue();
+            return nullValue;
+        }
+        if (token != STRING) {
+            throw syntaxError("Expected a date string");
+        }
+        pos++; // opening quote
+        int year = readDigits(4);
+        expectChar('-');
+        int month = readDigits(2);
+        expectChar('-');
+        int day = readDigits(2);
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int c = read();
+        if (c == 'T') {
+            hour = readDigits(2);
+            expectChar(':');
+            minute = readDigits(2);
+            c = read();
+            if (c == ':') {
+                second = readDigits(2);
+                c = read();
+            }
+        }
+        if (c != '"') {
+            throw syntaxError("Bad date");
+        }
+        afterValue();
+        return daysFromCivil(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+    }
+
+    void skipValue() throws IOException {
+        int token = peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING:
+            case NAME:
+                skipQuoted();
+                if (token == NAME) {
+                    scopes[depth - 1] = SCOPE_OBJECT_VALUE;
+                } else {
+                    afterValue();
+                }
+                break;
+            case NUMBER:
+                readNumber();
+                afterValue();
+                break;
+            case BOOLEAN:
+            case NULL:
+                skipLiteral();
+                afterValue();
+                break;
+            default:
+                throw syntaxError("Unexpected token");
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(scopes, 0, grown, 0, depth);
+            scopes = grown;
+        }
+        scopes[depth++] = scope;
+    }
+
+    private void afterValue() {
+        if (depth > 0 && scopes[depth - 1] == SCOPE_OBJECT_VALUE) {
+            scopes[depth - 1] = SCOPE_OBJECT_NAME;
+        }
+    }
+
+    private void expect(char c) throws IOException {
+        if (nextNonSeparator() != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private int nextNonSeparator() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[pos];
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == ',' || c == ':') {
+                pos++;
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            pos = 0;
+            limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private int peekChar() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos];
+    }
+
+    private String readQuoted() throws IOException {
+        pos++; // opening quote
+        scratch.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw syntaxError("Unterminated string");
+            } else if (c == '"') {
+                return scratch.toString();
+            } else if (c == '\\') {
+                scratch.append(readEscape());
+            } else {
+                scratch.append((char) c);
+            }
+        }
+    }
+
+    private void skipQuoted() throws IOException {
+        pos++;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw syntaxError("Unterminated string");
+            } else if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                readEscape();
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case 'n':
+                return '\n';
+            case 't':
+                return '\t';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Bad unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case -1:
+                throw syntaxError("Unterminated escape");
+            default:
+                return (char) c;
+        }
+    }
+
+    private void skipLiteral() throws IOException {
+        while (true) {
+            int c = peekChar();
+            if (c >= 'a' && c <= 'z') {
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double readNumber() throws IOException {
+        boolean negative = false;
+        long mantissa = 0L;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        boolean exact = true;
+        int exponent = 0;
+        scratch.setLength(0);
+
+        int c = peekChar();
+        if (c == '-') {
+            negative = true;
+            scratch.append('-');
+            pos++;
+        }
+        while (true) {
+            c = peekChar();
+            if (c >= '0' && c <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (inFraction) {
+                        fractionDigits++;
+                    }
+                } else {
+                    exact = false;
+                }
+                if (mantissa != 0) {
+                    digits++;
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                break;
+            }
+            scratch.append((char) c);
+            pos++;
+        }
+        if (c == 'e' || c == 'E') {
+            scratch.append((char) c);
+            pos++;
+            boolean negativeExponent = false;
+            c = peekChar();
+            if (c == '+' || c == '-') {
+                negativeExponent = c == '-';
+                scratch.append((char) c);
+                pos++;
+            }
+            while ((c = peekChar()) >= '0' && c <= '9') {
+                scratch.append((char) c);
+                pos++;
+                if (exponent < 10_000) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (scratch.length() == 0 || (scratch.length() == 1 && negative)) {
+            throw syntaxError("Expected a number");
+        }
+
+        int scale = exponent - fractionDigits;
+        if (exact && mantissa < (1L << 53) && scale >= -22 && scale <= 22) {
+            // Exact integer mantissa scaled by an exact power of ten rounds correctly.
+            double value = scale < 0
+                    ? mantissa / POWERS_OF_TEN[-scale]
+                    : mantissa * POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        try {
+            return Double.parseDouble(scratch.toString());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Bad number " + scratch);
+        }
+    }
+
+    private int readDigits(int count) throws IOException {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int c = read();
+            if (c < '0' || c > '9') {
+                throw syntaxError("Expected a digit");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private void expectChar(char expected) throws IOException {
+        if (read() != expected) {
+            throw syntaxError("Expected '" + expected + "'");
+        }
+    }
+
+    // Days since 1970-01-01 in the proleptic Gregorian calendar.
+    static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at depth " + depth);
+    }
+}
@@ -1,9 +1,11 @@
 package com.campertools.app.weather;
 
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 
@@ -15,14 +17,21 @@ public final class OpenMeteoClient {
     private OpenMeteoClient() {
     }
 
-    public static String fetchForecastJson(double latitude, double longitude) throws IOException {
+    /**
+     * Fetches and parses the variables named by {@code request} straight from the connection. When {@code copyTo}
+     * is not null the raw response bytes are also written to it as they are read.
+     */
+    public static ForecastFrame fetchForecast(
+            double latitude,
+            double longitude,
+            ForecastRequest request,
+            OutputStream copyTo
+    ) throws IOException {
         String urlStr =
                 "https://api.open-meteo.com/v1/forecast"
                         + "?latitude=" + latitude
                         + "&longitude=" + longitude
-                        + "&hourly=temperature_2m,precipitation,weathercode,winddirection_10m,cloudcover,sunshine_duration,is_day"
-                        + "&daily=sunrise,sunset,windgusts_10m_max,temperature_2m_max,temperature_2m_min,precipitation_sum,winddirection_10m_dominant,weathercode"
-                        + "&current_weather=true"
+                        + request.query()
                         + "&timezone=auto";
 
         HttpURLConnection connection = null;
@@ -39,7 +48,9 @@ public final class OpenMeteoClient {
                 throw new IOException("HTTP " + responseCode + (errorBody.isEmpty() ? "" : (": " + errorBody)));
             }
 
-            return readStream(connection.getInputStream());
+            try (InputStream input = connection.getInputStream()) {
+                return OpenMeteoParser.parse(copyTo == null ? input : new TeeInputStream(input, copyTo));
+            }
         } finally {
             if (connection != null) {
                 connection.disconnect();
@@ -61,4 +72,31 @@ public final class OpenMeteoClient {
             return sb.toString();
         }
     }
+
+    private static final class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                copy.write(buffer, offset, n);
+            }
+            return n;
+        }
+    }
 }
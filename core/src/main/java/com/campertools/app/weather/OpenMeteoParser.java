@@ -0,0 +1,196 @@
+package com.campertools.app.weather;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Streaming parser for the Open-Meteo forecast schema.
+ * Hourly and daily arrays, including the time axes, are read value by value into the
+ * primitive columns of a {@link ForecastFrame}, so neither the response text nor a JSON
+ * tree is ever held in memory.
+ */
+public final class OpenMeteoParser {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final JsonPullReader reader;
+    private double[] doubleScratch = new double[256];
+    private int[] intScratch = new int[256];
+    private long[] longScratch = new long[256];
+
+    private OpenMeteoParser(Reader in) {
+        this.reader = new JsonPullReader(in);
+    }
+
+    public static ForecastFrame parse(InputStream in) throws IOException {
+        return parse(new InputStreamReader(in, UTF_8));
+    }
+
+    public static ForecastFrame parse(String json) throws IOException {
+        return parse(new StringReader(json));
+    }
+
+    public static ForecastFrame parse(Reader in) throws IOException {
+        return new OpenMeteoParser(in).readRoot();
+    }
+
+    private ForecastFrame readRoot() throws IOException {
+        ForecastFrame.Builder b = new ForecastFrame.Builder();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("utc_offset_seconds".equals(name)) {
+                b.utcOffsetSeconds = reader.nextInt(0);
+            } else if ("current_weather".equals(name)) {
+                readCurrent(b);
+            } else if ("hourly".equals(name)) {
+                readHourly(b);
+            } else if ("daily".equals(name)) {
+                readDaily(b);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return b.build();
+    }
+
+    private void readCurrent(ForecastFrame.Builder b) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("temperature".equals(name)) {
+                b.currentTempC = reader.nextDouble();
+            } else if ("windspeed".equals(name)) {
+                b.currentWindKmh = reader.nextDouble();
+            } else if ("winddirection".equals(name)) {
+                b.currentWindDirectionDeg = reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        b.hasCurrentWeather = true;
+    }
+
+    private void readHourly(ForecastFrame.Builder b) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "time":
+                    b.hourlyLocalTime = readTimes();
+                    break;
+                case "temperature_2m":
+                    b.hourlyTemperatureC = readDoubles();
+                    break;
+                case "precipitation":
+                    b.hourlyPrecipitationMm = readDoubles();
+                    break;
+                case "weathercode":
+                    b.hourlyWeatherCode = readInts();
+                    break;
+                case "winddirection_10m":
+                    b.hourlyWindDirectionDeg = readDoubles();
+                    break;
+                case "cloudcover":
+                    b.hourlyCloudCoverPercent = readDoubles();
+                    break;
+                case "sunshine_duration":
+                    b.hourlySunshineSeconds = readDoubles();
+                    break;
+                case "is_day":
+                    b.hourlyIsDay = readInts();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    private void readDaily(ForecastFrame.Builder b) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "time":
+                    b.dailyLocalTime = readTimes();
+                    break;
+                case "sunrise":
+                    b.dailyLocalSunrise = readTimes();
+                    break;
+                case "sunset":
+                    b.dailyLocalSunset = readTimes();
+                    break;
+                case "windgusts_10m_max":
+                    b.dailyWindGustsMaxKmh = readDoubles();
+                    break;
+                case "temperature_2m_max":
+                    b.dailyTemperatureMaxC = readDoubles();
+                    break;
+                case "temperature_2m_min":
+                    b.dailyTemperatureMinC = readDoubles();
+                    break;
+                case "precipitation_sum":
+                    b.dailyPrecipitationSumMm = readDoubles();
+                    break;
+                case "winddirection_10m_dominant":
+                    b.dailyWindDirectionDominantDeg = readDoubles();
+                    break;
+                case "weathercode":
+                    b.dailyWeatherCode = readInts();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    private double[] readDoubles() throws IOException {
+        reader.beginArray();
+        int n = 0;
+        while (reader.hasNext()) {
+            if (n == doubleScratch.length) {
+                doubleScratch = Arrays.copyOf(doubleScratch, n * 2);
+            }
+            doubleScratch[n++] = reader.nextDouble();
+        }
+        reader.endArray();
+        return Arrays.copyOf(doubleScratch, n);
+    }
+
+    private int[] readInts() throws IOException {
+        reader.beginArray();
+        int n = 0;
+        while (reader.hasNext()) {
+            if (n == intScratch.length) {
+                intScratch = Arrays.copyOf(intScratch, n * 2);
+            }
+            intScratch[n++] = reader.nextInt(ForecastFrame.MISSING_CODE);
+        }
+        reader.endArray();
+        return Arrays.copyOf(intScratch, n);
+    }
+
+    private long[] readTimes() throws IOException {
+        reader.beginArray();
+        int n = 0;
+        while (reader.hasNext()) {
+            if (n == longScratch.length) {
+                longScratch = Arrays.copyOf(longScratch, n * 2);
+            }
+            longScratch[n++] = reader.nextLocalDateTimeSeconds(ForecastFrame.MISSING_TIME);
+        }
+        reader.endArray();
+        return Arrays.copyOf(longScratch, n);
+    }
+}
@@ -0,0 +1,72 @@
+package com.campertools.app.weather;
+
+/**
+ * Display units for forecast values, which always arrive metric. Each quantity is a linear
+ * map, so whole columns convert in one loop; {@code out} may be the input array itself.
+ */
+public final class UnitSystem {
+
+    public static final UnitSystem METRIC = new UnitSystem(false, 1d, 0d, 1d, 1d);
+    public static final UnitSystem IMPERIAL = new UnitSystem(true, 9d / 5d, 32d, 0.621371d, 0.0393701d);
+
+    private final boolean imperial;
+    private final double temperatureScale;
+    private final double temperatureOffset;
+    private final double speedScale;
+    private final double precipitationScale;
+
+    private UnitSystem(boolean imperial, double temperatureScale, double temperatureOffset,
+                       double speedScale, double precipitationScale) {
+        this.imperial = imperial;
+        this.temperatureScale = temperatureScale;
+        this.temperatureOffset = temperatureOffset;
+        this.speedScale = speedScale;
+        this.precipitationScale = precipitationScale;
+    }
+
+    public static UnitSystem of(boolean imperial) {
+        return imperial ? IMPERIAL : METRIC;
+    }
+
+    public boolean isImperial() {
+        return imperial;
+    }
+
+    /** From °C. */
+    public double temperature(double celsius) {
+        return celsius * temperatureScale + temperatureOffset;
+    }
+
+    /** From km/h. */
+    public double speed(double kmh) {
+        return kmh * speedScale;
+    }
+
+    /** From mm. */
+    public double precipitation(double mm) {
+        return mm * precipitationScale;
+    }
+
+    public double[] temperatures(double[] celsius, double[] out) {
+        return linear(celsius, out, temperatureScale, temperatureOffset);
+    }
+
+    public double[] speeds(double[] kmh, double[] out) {
+        return linear(kmh, out, speedScale, 0d);
+    }
+
+    public double[] precipitations(double[] mm, double[] out) {
+        return linear(mm, out, precipitationScale, 0d);
+    }
+
+    private static double[] linear(double[] in, double[] out, double scale, double offset) {
+        int n = in.length;
+        if (out.length < n) {
+            throw new IllegalArgumentException("output holds " + out.length + " of " + n + " values");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = in[i] * scale + offset;
+        }
+        return out;
+    }
+}
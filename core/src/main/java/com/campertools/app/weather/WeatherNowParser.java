@@ -0,0 +1,57 @@
+package com.campertools.app.weather;
+
+import java.io.IOException;
+
+public final class WeatherNowParser {
+
+    private WeatherNowParser() {
+    }
+
+    public static WeatherNowSnapshot parseCurrentAndNext24h(String json, long nowEpochSeconds) {
+        try {
+            return currentAndNext24h(OpenMeteoParser.parse(json), nowEpochSeconds);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Summarises the 24 hours starting at the slot that contains {@code nowEpochSeconds}, so the
+     * window follows the response's own time axis whatever the device's time zone.
+     */
+    public static WeatherNowSnapshot currentAndNext24h(ForecastFrame forecast, long nowEpochSeconds) {
+        if (!forecast.hasCurrentWeather) {
+            return null;
+        }
+        double[] temps = forecast.hourlyTemperatureC;
+        double[] precip = forecast.hourlyPrecipitationMm;
+        int[] weatherCode = forecast.hourlyWeatherCode;
+        if (temps == null || precip == null || weatherCode == null) {
+            return null;
+        }
+
+        int startIdx = forecast.hourIndexAt(nowEpochSeconds);
+        int maxLen = Math.min(temps.length, Math.min(precip.length, weatherCode.length));
+        int endIdx = Math.min(maxLen, startIdx + 24);
+        if (startIdx < 0 || endIdx <= startIdx) {
+            return null;
+        }
+
+        HourlyWindows windows = forecast.hourlyWindows();
+        if (windows.temperatureCount(startIdx, endIdx) == 0) {
+            return null;
+        }
+
+        return new WeatherNowSnapshot(
+                forecast.currentTempC,
+                forecast.currentWindKmh,
+                forecast.currentWindDirectionDeg,
+                windows.minTemperature(startIdx, endIdx),
+                windows.maxTemperature(startIdx, endIdx),
+                windows.meanTemperature(startIdx, endIdx),
+                windows.precipitationSum(startIdx, endIdx),
+                windows.anyPrecipitation(startIdx, endIdx),
+                windows.weatherFlags(startIdx, endIdx)
+        );
+    }
+}
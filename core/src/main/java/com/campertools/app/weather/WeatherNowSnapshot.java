@@ -12,6 +12,8 @@ public final class WeatherNowSnapshot {
     public final boolean anySnowCode;
     public final boolean anyThunderCode;
     public final boolean anyFreezingCode;
+    /** OR of the WeatherUnits WMO_* flags over the window. */
+    public final int weatherFlags;
 
     public WeatherNowSnapshot(
             double currentTempC,
@@ -22,9 +24,7 @@ public final class WeatherNowSnapshot {
             double avgTempC,
             double sumPrecipMm,
             boolean anyPrecip,
-            boolean anySnowCode,
-            boolean anyThunderCode,
-            boolean anyFreezingCode
+            int weatherFlags
     ) {
         this.currentTempC = currentTempC;
         this.currentWindKmh = currentWindKmh;
@@ -34,8 +34,9 @@ public final class WeatherNowSnapshot {
         this.avgTempC = avgTempC;
         this.sumPrecipMm = sumPrecipMm;
         this.anyPrecip = anyPrecip;
-        this.anySnowCode = anySnowCode;
-        this.anyThunderCode = anyThunderCode;
-        this.anyFreezingCode = anyFreezingCode;
+        this.weatherFlags = weatherFlags;
+        this.anySnowCode = (weatherFlags & WeatherUnits.WMO_SNOW) != 0;
+        this.anyThunderCode = (weatherFlags & WeatherUnits.WMO_THUNDER) != 0;
+        this.anyFreezingCode = (weatherFlags & WeatherUnits.WMO_FREEZING) != 0;
     }
 }
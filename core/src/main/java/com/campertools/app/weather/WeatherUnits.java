@@ -0,0 +1,225 @@
+package com.campertools.app.weather;
+
+public final class WeatherUnits {
+
+    public static final int PRECIP_INTENSITY_VERY_LIGHT = 0;
+    public static final int PRECIP_INTENSITY_LIGHT = 1;
+    public static final int PRECIP_INTENSITY_MODERATE = 2;
+    public static final int PRECIP_INTENSITY_HEAVY = 3;
+
+    public static final int PRECIP_TYPE_RAIN = 0;
+    public static final int PRECIP_TYPE_SNOW = 1;
+    public static final int PRECIP_TYPE_RAIN_SNOW_MIX = 2;
+    public static final int PRECIP_TYPE_THUNDERSTORM_RAIN = 3;
+
+    // Flags for a WMO weather code; OR-ing them over several hours keeps their meaning
+    public static final int WMO_PRECIP = 1;
+    public static final int WMO_RAIN = 1 << 1;
+    public static final int WMO_SNOW = 1 << 2;
+    public static final int WMO_FREEZING = 1 << 3;
+    public static final int WMO_CONVECTIVE = 1 << 4;
+    public static final int WMO_THUNDER = 1 << 5;
+    public static final int WMO_HAIL = 1 << 6;
+    public static final int WMO_LOW_VISIBILITY = 1 << 7;
+    public static final int WMO_FLAG_MASK = 0xFF;
+
+    public static final int WMO_INTENSITY_NONE = 0;
+    public static final int WMO_INTENSITY_LIGHT = 1;
+    public static final int WMO_INTENSITY_MODERATE = 2;
+    public static final int WMO_INTENSITY_HEAVY = 3;
+
+    // Icon ids, in the order of the app's weather_conditions array
+    public static final int WMO_ICON_UNKNOWN = 0;
+    public static final int WMO_ICON_CLEAR = 1;
+    public static final int WMO_ICON_PARTLY_CLOUDY = 2;
+    public static final int WMO_ICON_OVERCAST = 3;
+    public static final int WMO_ICON_FOG = 4;
+    public static final int WMO_ICON_DRIZZLE = 5;
+    public static final int WMO_ICON_RAIN = 6;
+    public static final int WMO_ICON_FREEZING_RAIN = 7;
+    public static final int WMO_ICON_SNOW = 8;
+    public static final int WMO_ICON_RAIN_SHOWERS = 9;
+    public static final int WMO_ICON_SNOW_SHOWERS = 10;
+    public static final int WMO_ICON_THUNDER = 11;
+
+    private static final int INTENSITY_SHIFT = 8;
+    private static final int ICON_SHIFT = 12;
+
+    private static final int[] WMO_TABLE = new int[100];
+
+    static {
+        int rain = WMO_PRECIP | WMO_RAIN;
+        int freezing = rain | WMO_FREEZING;
+        int snow = WMO_PRECIP | WMO_SNOW;
+        int shower = WMO_CONVECTIVE;
+        int thunder = rain | WMO_CONVECTIVE | WMO_THUNDER;
+
+        wmo(0, 0, WMO_INTENSITY_NONE, WMO_ICON_CLEAR);
+        wmo(1, 0, WMO_INTENSITY_NONE, WMO_ICON_CLEAR);
+        wmo(2, 0, WMO_INTENSITY_NONE, WMO_ICON_PARTLY_CLOUDY);
+        wmo(3, 0, WMO_INTENSITY_NONE, WMO_ICON_OVERCAST);
+        wmo(45, WMO_LOW_VISIBILITY, WMO_INTENSITY_NONE, WMO_ICON_FOG);
+        wmo(48, WMO_LOW_VISIBILITY, WMO_INTENSITY_NONE, WMO_ICON_FOG);
+        wmo(51, rain, WMO_INTENSITY_LIGHT, WMO_ICON_DRIZZLE);
+        wmo(53, rain, WMO_INTENSITY_MODERATE, WMO_ICON_DRIZZLE);
+        wmo(55, rain, WMO_INTENSITY_HEAVY, WMO_ICON_DRIZZLE);
+        wmo(56, freezing, WMO_INTENSITY_LIGHT, WMO_ICON_FREEZING_RAIN);
+        wmo(57, freezing, WMO_INTENSITY_HEAVY, WMO_ICON_FREEZING_RAIN);
+        wmo(61, rain, WMO_INTENSITY_LIGHT, WMO_ICON_RAIN);
+        wmo(63, rain, WMO_INTENSITY_MODERATE, WMO_ICON_RAIN);
+        wmo(65, rain, WMO_INTENSITY_HEAVY, WMO_ICON_RAIN);
+        wmo(66, freezing, WMO_INTENSITY_LIGHT, WMO_ICON_FREEZING_RAIN);
+        wmo(67, freezing, WMO_INTENSITY_HEAVY, WMO_ICON_FREEZING_RAIN);
+        wmo(71, snow, WMO_INTENSITY_LIGHT, WMO_ICON_SNOW);
+        wmo(73, snow, WMO_INTENSITY_MODERATE, WMO_ICON_SNOW);
+        wmo(75, snow | WMO_LOW_VISIBILITY, WMO_INTENSITY_HEAVY, WMO_ICON_SNOW);
+        wmo(77, snow, WMO_INTENSITY_LIGHT, WMO_ICON_SNOW);
+        wmo(80, rain | shower, WMO_INTENSITY_LIGHT, WMO_ICON_RAIN_SHOWERS);
+        wmo(81, rain | shower, WMO_INTENSITY_MODERATE, WMO_ICON_RAIN_SHOWERS);
+        wmo(82, rain | shower, WMO_INTENSITY_HEAVY, WMO_ICON_RAIN_SHOWERS);
+        wmo(85, snow | shower, WMO_INTENSITY_LIGHT, WMO_ICON_SNOW_SHOWERS);
+        wmo(86, snow | shower, WMO_INTENSITY_HEAVY, WMO_ICON_SNOW_SHOWERS);
+        wmo(95, thunder, WMO_INTENSITY_MODERATE, WMO_ICON_THUNDER);
+        wmo(96, thunder | WMO_HAIL, WMO_INTENSITY_MODERATE, WMO_ICON_THUNDER);
+        wmo(99, thunder | WMO_HAIL, WMO_INTENSITY_HEAVY, WMO_ICON_THUNDER);
+    }
+
+    private static final String[] CARDINAL = {"N", "NE", "E", "SE", "S", "SW", "W", "NW"};
+
+    // Open-Meteo reports directions in whole degrees, so those resolve by table
+    private static final byte[] DIRECTION_BUCKETS = new byte[360];
+
+    static {
+        for (int d = 0; d < DIRECTION_BUCKETS.length; d++) {
+            DIRECTION_BUCKETS[d] = (byte) computeDirectionBucket(d);
+        }
+    }
+
+    private WeatherUnits() {
+    }
+
+    public static double celsiusToFahrenheit(double celsius) {
+        return UnitSystem.IMPERIAL.temperature(celsius);
+    }
+
+    public static double kmhToMph(double kmh) {
+        return UnitSystem.IMPERIAL.speed(kmh);
+    }
+
+    public static double mmToInches(double mm) {
+        return UnitSystem.IMPERIAL.precipitation(mm);
+    }
+
+    public static String cardinalDirection(double degrees) {
+        return CARDINAL[directionBucketIndex(degrees)];
+    }
+
+    /** Label for a bucket from {@link #directionBucketIndex}. */
+    public static String cardinalLabel(int bucket) {
+        return CARDINAL[bucket];
+    }
+
+    public static int directionBucketIndex(double degrees) {
+        int whole = (int) degrees;
+        if (whole == degrees && whole >= 0 && whole < DIRECTION_BUCKETS.length) {
+            return DIRECTION_BUCKETS[whole];
+        }
+        return computeDirectionBucket(degrees);
+    }
+
+    /**
+     * Buckets for a column of directions; a missing (NaN) direction gets -1 rather than
+     * falling into the north bucket.
+     */
+    public static int[] directionBuckets(double[] degrees, int[] out) {
+        int n = degrees.length;
+        if (out.length < n) {
+            throw new IllegalArgumentException("output holds " + out.length + " of " + n + " values");
+        }
+        for (int i = 0; i < n; i++) {
+            double d = degrees[i];
+            out[i] = Double.isNaN(d) ? -1 : directionBucketIndex(d);
+        }
+        return out;
+    }
+
+    /**
+     * Classification of a WMO weather code as one table entry: the WMO_* flag bits plus an
+     * intensity class and icon id (read them with {@link #weatherIntensity} and
+     * {@link #weatherIcon}). Unknown and missing codes classify as 0.
+     */
+    public static int weatherCodeInfo(int code) {
+        return code >= 0 && code < WMO_TABLE.length ? WMO_TABLE[code] : 0;
+    }
+
+    public static int weatherIntensity(int info) {
+        return (info >>> INTENSITY_SHIFT) & 0x3;
+    }
+
+    public static int weatherIcon(int info) {
+        return (info >>> ICON_SHIFT) & 0xF;
+    }
+
+    public static boolean isSnowCode(int code) {
+        return (weatherCodeInfo(code) & WMO_SNOW) != 0;
+    }
+
+    public static boolean isThunderCode(int code) {
+        return (weatherCodeInfo(code) & WMO_THUNDER) != 0;
+    }
+
+    public static boolean isFreezingCode(int code) {
+        return (weatherCodeInfo(code) & WMO_FREEZING) != 0;
+    }
+
+    public static int precipitationIntensityBucket(double sumPrecipMm) {
+        if (sumPrecipMm < 1d) {
+            return PRECIP_INTENSITY_VERY_LIGHT;
+        } else if (sumPrecipMm < 5d) {
+            return PRECIP_INTENSITY_LIGHT;
+        } else if (sumPrecipMm < 15d) {
+            return PRECIP_INTENSITY_MODERATE;
+        } else {
+            return PRECIP_INTENSITY_HEAVY;
+        }
+    }
+
+    /**
+     * Precipitation type for a window from its average temperature and the OR of its
+     * WMO_* flags.
+     */
+    public static int precipitationTypeBucket(double avgTempC, int codeFlags) {
+        return precipitationTypeBucket(
+                avgTempC,
+                (codeFlags & WMO_SNOW) != 0,
+                (codeFlags & WMO_THUNDER) != 0,
+                (codeFlags & WMO_FREEZING) != 0
+        );
+    }
+
+    public static int precipitationTypeBucket(
+            double avgTempC,
+            boolean anySnowCode,
+            boolean anyThunderCode,
+            boolean anyFreezingCode
+    ) {
+        if (anyThunderCode) {
+            return PRECIP_TYPE_THUNDERSTORM_RAIN;
+        } else if (anySnowCode || avgTempC <= 1.0) {
+            return PRECIP_TYPE_SNOW;
+        } else if (anyFreezingCode || (avgTempC > 1.0 && avgTempC < 3.0)) {
+            return PRECIP_TYPE_RAIN_SNOW_MIX;
+        } else {
+            return PRECIP_TYPE_RAIN;
+        }
+    }
+
+    private static int computeDirectionBucket(double degrees) {
+        double normalized = ((degrees % 360d) + 360d) % 360d;
+        return (int) Math.round(normalized / 45d) % 8;
+    }
+
+    private static void wmo(int code, int flags, int intensity, int icon) {
+        WMO_TABLE[code] = flags | (intensity << INTENSITY_SHIFT) | (icon << ICON_SHIFT);
+    }
+}
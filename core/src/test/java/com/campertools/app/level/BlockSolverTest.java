@@ -0,0 +1,96 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BlockSolverTest {
+
+    private static final double RESOLUTION = 0.1;
+
+    @Test
+    public void parsesAndMergesInventory() {
+        BlockInventory inventory = BlockInventory.parse("2.5x4, 5 x 1; 5");
+        assertEquals(2, inventory.typeCount());
+        assertEquals(2.5, inventory.height(0), 0.0);
+        assertEquals(4, inventory.count(0));
+        assertEquals(5.0, inventory.height(1), 0.0);
+        assertEquals(2, inventory.count(1));
+        assertTrue(BlockInventory.parse("  ").isEmpty());
+
+        BlockInventory reversed = BlockInventory.parse("5x2, 1, 2.5x4");
+        assertEquals(1.0, reversed.height(0), 0.0);
+        assertEquals(2.5, reversed.height(1), 0.0);
+        assertEquals(4, reversed.count(1));
+        assertEquals(5.0, reversed.height(2), 0.0);
+        assertEquals(2, reversed.count(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBadEntries() {
+        BlockInventory.parse("2.5x4, fivex2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAbsurdCounts() {
+        BlockInventory.parse("1x100000");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAbsurdMergedCounts() {
+        BlockInventory.parse("1x1000, 1x1");
+    }
+
+    @Test
+    public void typicalMultiHeightInventoryIsSearchedFully() {
+        BlockSolver solver = new BlockSolver(BlockInventory.parse("1x4, 2x4, 4x4"), 4, RESOLUTION);
+        solver.solve(new double[] {0, 3, 5.5, 9});
+        assertTrue(solver.isExhaustive());
+        // Whole-unit blocks cannot meet the half unit
+        assertEquals(0.5, solver.residual(), 1e-9);
+    }
+
+    @Test
+    public void hugeInventoryKeepsBestPlanWithinBudget() {
+        BlockSolver solver = new BlockSolver(
+                BlockInventory.parse("1x" + BlockInventory.MAX_COUNT + ", 2x20, 3x20"), 4, RESOLUTION);
+        solver.solve(new double[] {0, 2, 4, 6});
+        assertFalse(solver.isExhaustive());
+        assertTrue(solver.residual() < 6.0);
+    }
+
+    @Test
+    public void exactStacksUseFewestBlocks() {
+        BlockSolver solver = new BlockSolver(BlockInventory.parse("2.5x4, 5x2"), 4, RESOLUTION);
+        solver.solve(new double[] {0, 5, 2.5, 7.5});
+        assertEquals(0.0, solver.residual(), 1e-9);
+        assertEquals(15.0, solver.totalLift(), 1e-9);
+        assertEquals(1, solver.blocks(1, 1));
+        assertEquals(0, solver.blocks(1, 0));
+        assertEquals(1, solver.blocks(2, 0));
+        assertEquals(1, solver.blocks(3, 0));
+        assertEquals(1, solver.blocks(3, 1));
+    }
+
+    @Test
+    public void shortInventoryKeepsLiftLow() {
+        BlockSolver solver = new BlockSolver(BlockInventory.parse("2.5x3"), 4, RESOLUTION);
+        solver.solve(new double[] {0, 0, 5, 5});
+        // Five units are needed twice but only 7.5 are owned; the best spread is 2.5 either way
+        assertEquals(2.5, solver.residual(), 1e-9);
+        assertEquals(5.0, solver.totalLift(), 1e-9);
+        assertEquals(1, solver.blocks(2, 0));
+        assertEquals(1, solver.blocks(3, 0));
+    }
+
+    @Test
+    public void raisesReferenceCornerWhenThatLevelsBetter() {
+        BlockSolver solver = new BlockSolver(BlockInventory.parse("2x1, 3x3"), 4, RESOLUTION);
+        solver.solve(new double[] {0, 1, 1, 1});
+        assertEquals(0.0, solver.residual(), 1e-9);
+        assertEquals(2.0, solver.lift(0), 1e-9);
+        assertEquals(3.0, solver.lift(1), 1e-9);
+    }
+}
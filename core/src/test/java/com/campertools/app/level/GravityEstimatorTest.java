@@ -0,0 +1,55 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GravityEstimatorTest {
+
+    private static final float G = TiltProcessor.STANDARD_GRAVITY;
+    private static final long STEP_NS = 10_000_000L;
+
+    @Test
+    public void gyroRotationMovesGravityWithoutLag() {
+        GravityEstimator estimator = new GravityEstimator(10f);
+        estimator.updateAccel(0f, 0f, G, 0L);
+        float rate = (float) Math.toRadians(20);
+        long t = 0;
+        // Half a second at 20°/s around the x axis, with no accelerometer corrections
+        for (int i = 0; i <= 50; i++) {
+            estimator.updateGyro(rate, 0f, 0f, t);
+            t += STEP_NS;
+        }
+        float[] gravity = new float[3];
+        estimator.copyTo(gravity);
+        assertEquals(G * Math.sin(Math.toRadians(10)), gravity[1], 0.02);
+        assertEquals(G * Math.cos(Math.toRadians(10)), gravity[2], 0.02);
+        assertEquals(0f, gravity[0], 1e-4);
+    }
+
+    @Test
+    public void accelerometerCancelsGyroDriftAndIgnoresShocks() {
+        GravityEstimator estimator = new GravityEstimator(0.5f);
+        float roll = G * (float) Math.sin(Math.toRadians(2));
+        float flat = G * (float) Math.cos(Math.toRadians(2));
+        estimator.updateAccel(roll, 0f, flat, 0L);
+        float bias = (float) Math.toRadians(0.5);
+        long t = 0;
+        float[] gravity = new float[3];
+        for (int i = 1; i <= 1000; i++) {
+            t += STEP_NS;
+            estimator.updateGyro(0f, bias, 0f, t);
+            if (i == 500) {
+                // A 2 g jolt sideways for one sample
+                estimator.updateAccel(roll + 2 * G, 0f, flat, t);
+                estimator.copyTo(gravity);
+                assertEquals(roll, gravity[0], 0.1);
+            } else {
+                estimator.updateAccel(roll, 0f, flat, t);
+            }
+        }
+        estimator.copyTo(gravity);
+        // A biased gyro alone would have drifted 5°; the accelerometer keeps it within a fraction
+        assertEquals(roll, gravity[0], 0.05);
+    }
+}
@@ -0,0 +1,96 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LevelingSolverTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void vanMatchesShimmingToHighestWheel() {
+        double wb = 300;
+        double tw = 180;
+        LevelingSolver solver = new LevelingSolver(SupportLayout.preset(SupportLayout.VAN, wb, tw, 0));
+        double sx = 0.02;
+        double sy = -0.01;
+        solver.solve(sx, sy);
+
+        double hFL = -tw / 2 * sx + wb / 2 * sy;
+        double hFR = tw / 2 * sx + wb / 2 * sy;
+        double hBL = -tw / 2 * sx - wb / 2 * sy;
+        double hBR = tw / 2 * sx - wb / 2 * sy;
+        double max = Math.max(Math.max(hFL, hFR), Math.max(hBL, hBR));
+        assertEquals(max - hFL, solver.lift(0), EPS);
+        assertEquals(max - hFR, solver.lift(1), EPS);
+        assertEquals(max - hBL, solver.lift(2), EPS);
+        assertEquals(max - hBR, solver.lift(3), EPS);
+        assertEquals(0.0, solver.maxResidual(), EPS);
+    }
+
+    @Test
+    public void liftErrorFollowsDistanceToReference() {
+        double wb = 300;
+        double tw = 180;
+        LevelingSolver solver = new LevelingSolver(SupportLayout.preset(SupportLayout.VAN, wb, tw, 0));
+        // Rear right is highest, so front left is the diagonal
+        solver.solve(0.02, -0.01);
+        assertEquals(0.0, solver.liftError(3, 0.001, 0.002), EPS);
+        assertEquals(Math.hypot(tw * 0.001, wb * 0.002), solver.liftError(0, 0.001, 0.002), EPS);
+        assertEquals(tw * 0.001, solver.liftError(2, 0.001, 0.002), EPS);
+        assertEquals(wb * 0.002, solver.liftError(1, 0.001, 0.002), EPS);
+    }
+
+    @Test
+    public void trailerJackLowersNose() {
+        LevelingSolver solver = new LevelingSolver(SupportLayout.preset(SupportLayout.TRAILER, 400, 200, 0));
+        // Nose 8 units above the axle centre, right wheel 2 below the left; the left wheel is the reference
+        solver.solve(-0.01, 0.02);
+        assertEquals(1.0 - 8.0, solver.lift(0), EPS);
+        assertEquals(0.0, solver.lift(1), EPS);
+        assertEquals(2.0, solver.lift(2), EPS);
+        assertEquals(0.0, solver.maxResidual(), EPS);
+    }
+
+    @Test
+    public void tandemGroupLiftsToCentroidAndReportsResidual() {
+        double spacing = 100;
+        LevelingSolver solver = new LevelingSolver(
+                SupportLayout.preset(SupportLayout.FIFTH_WHEEL, 700, 200, spacing));
+        solver.solve(0.01, 0.01);
+        // Both tandem sides share one lift, so the 1-unit pitch across each pair stays
+        assertEquals(2.0, solver.lift(1), EPS);
+        assertEquals(0.0, solver.lift(2), EPS);
+        assertEquals(0.5, solver.maxResidual(), EPS);
+        assertEquals(Math.sqrt(0.2), solver.rmsResidual(), EPS);
+        assertTrue(solver.lift(0) < 0);
+    }
+
+    @Test
+    public void fixedPointSharesLevelWithBlocksAbove() {
+        SupportLayout layout = new SupportLayout(
+                new double[] {0, 0},
+                new double[] {10, 0},
+                new int[] {0, 1},
+                new int[] {SupportLayout.FIXED, SupportLayout.BLOCKS});
+        LevelingSolver solver = new LevelingSolver(layout);
+        // The fixed point sits 1 unit below the block support, which cannot go down
+        solver.solve(0.0, -0.1);
+        assertEquals(0.0, solver.lift(0), EPS);
+        assertEquals(0.0, solver.lift(1), EPS);
+        assertEquals(0.5, solver.maxResidual(), EPS);
+
+        // Tilted the other way the block support is raised to meet it
+        solver.solve(0.0, 0.1);
+        assertEquals(1.0, solver.lift(1), EPS);
+        assertEquals(0.0, solver.maxResidual(), EPS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyGroups() {
+        new SupportLayout(new double[] {0}, new double[] {0}, new int[] {0},
+                new int[] {SupportLayout.BLOCKS, SupportLayout.BLOCKS});
+    }
+}
@@ -0,0 +1,57 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OneEuroFilterTest {
+
+    @Test
+    public void responseDoesNotDependOnSampleRate() {
+        // A step from 0 to 1, observed after 200 ms at 15 Hz and at 200 Hz
+        float slow = stepResponse(15, 0.2);
+        float fast = stepResponse(200, 0.2);
+        assertEquals(slow, fast, 0.08f);
+    }
+
+    @Test
+    public void followsFastMovesMoreClosely() {
+        OneEuroFilter steady = new OneEuroFilter(1, 1f, 0f);
+        OneEuroFilter adaptive = new OneEuroFilter(1, 1f, 0.5f);
+        long step = 20_000_000L;
+        float steadyOut = 0f;
+        float adaptiveOut = 0f;
+        // Ramp at 5 units/s for half a second
+        for (int i = 0; i <= 25; i++) {
+            float input = i * 0.1f;
+            steadyOut = steady.filter(input, i * step);
+            adaptiveOut = adaptive.filter(input, i * step);
+        }
+        assertTrue(2.5f - adaptiveOut < (2.5f - steadyOut) / 2f);
+    }
+
+    @Test
+    public void anglesWrapThroughNorth() {
+        OneEuroFilter filter = OneEuroFilter.forAngles(1f, 0f);
+        filter.filter(355f, 0L);
+        float out = 0f;
+        for (int i = 1; i <= 200; i++) {
+            out = filter.filter(5f, i * 20_000_000L);
+            assertTrue(out >= 0f && out < 360f);
+            assertTrue(out > 354f || out < 5.01f);
+        }
+        assertEquals(5f, out, 0.01f);
+    }
+
+    private static float stepResponse(int rateHz, double seconds) {
+        OneEuroFilter filter = new OneEuroFilter(1, 1f, 0f);
+        long stepNs = 1_000_000_000L / rateHz;
+        filter.filter(0f, 0L);
+        float out = 0f;
+        for (long t = stepNs; t <= seconds * 1e9; t += stepNs) {
+            out = filter.filter(1f, t);
+        }
+        return out;
+    }
+}
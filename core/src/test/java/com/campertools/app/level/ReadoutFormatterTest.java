@@ -0,0 +1,56 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReadoutFormatterTest {
+
+    private static final String TILT = "Pitch: %1$.1f° Roll: %2$.1f°";
+    private static final String HEADING = "Heading: %.0f°";
+
+    @Test
+    public void matchesStringFormat() {
+        Locale[] locales = {Locale.US, Locale.GERMANY, new Locale("ar", "EG")};
+        double[] values = {0.0, 0.04, -0.04, 1.26, -12.34, 45.0, 89.96, -90.0, 359.7};
+        for (Locale locale : locales) {
+            ReadoutFormatter tilt = new ReadoutFormatter(TILT, locale);
+            ReadoutFormatter heading = new ReadoutFormatter(HEADING, locale);
+            for (double a : values) {
+                for (double b : values) {
+                    int length = tilt.format(a, b);
+                    assertEquals(String.format(locale, TILT, a, b), new String(tilt.chars(), 0, length));
+                }
+                int length = heading.format(a);
+                assertEquals(String.format(locale, HEADING, a), new String(heading.chars(), 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void supportsReorderedArgumentsAndPercent() {
+        ReadoutFormatter formatter = new ReadoutFormatter("%2$.2f%% of %1$.0f", Locale.US);
+        int length = formatter.format(7.0, 12.345);
+        assertEquals("12.35% of 7", new String(formatter.chars(), 0, length));
+    }
+
+    @Test
+    public void updateReportsOnlyVisibleChanges() {
+        ReadoutFormatter heading = new ReadoutFormatter(HEADING, Locale.US);
+        assertTrue(heading.update(10.2));
+        assertFalse(heading.update(9.6));
+        assertTrue(heading.update(9.4));
+        assertEquals("Heading: 9°", new String(heading.chars(), 0, heading.length()));
+        heading.reset();
+        assertTrue(heading.update(9.4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsupportedPlaceholders() {
+        new ReadoutFormatter("%s", Locale.US);
+    }
+}
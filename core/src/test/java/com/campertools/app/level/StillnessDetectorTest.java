@@ -0,0 +1,47 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StillnessDetectorTest {
+
+    private static final long STEP_NS = 20_000_000L;
+
+    @Test
+    public void becomesStillAfterHoldAndWakesOnFirstJolt() {
+        StillnessDetector detector = new StillnessDetector(0.006f, 0.25f, 3_000L);
+        long t = 0;
+        // Sensor noise of about ±0.02 m/s² on a parked van
+        for (int i = 0; i < 100; i++, t += STEP_NS) {
+            assertFalse(detector.update(noise(i), noise(i + 7), 9.81f + noise(i + 3), t));
+        }
+        assertFalse(detector.isStill());
+        boolean changed = false;
+        for (int i = 0; i < 200; i++, t += STEP_NS) {
+            changed |= detector.update(noise(i), noise(i + 7), 9.81f + noise(i + 3), t);
+        }
+        assertTrue(changed);
+        assertTrue(detector.isStill());
+
+        // Someone steps into the van
+        assertTrue(detector.update(0.4f, 0f, 9.81f, t));
+        assertFalse(detector.isStill());
+    }
+
+    @Test
+    public void vibrationKeepsItMoving() {
+        StillnessDetector detector = new StillnessDetector(0.006f, 0.25f, 3_000L);
+        long t = 0;
+        for (int i = 0; i < 500; i++, t += STEP_NS) {
+            float shake = (i % 2 == 0 ? 0.15f : -0.15f);
+            detector.update(shake, 0f, 9.81f, t);
+        }
+        assertFalse(detector.isStill());
+    }
+
+    private static float noise(int i) {
+        return (float) Math.sin(i * 12.9898) * 0.02f;
+    }
+}
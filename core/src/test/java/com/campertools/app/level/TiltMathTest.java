@@ -0,0 +1,23 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TiltMathTest {
+
+    @Test
+    public void adjustClampsBeforeAndAfterOffset() {
+        assertEquals(1f, TiltMath.adjust(1.3f, 0f), 0f);
+        assertEquals(-1f, TiltMath.adjust(-0.5f, 0.8f), 0f);
+        assertEquals(0.2f, TiltMath.adjust(1.5f, 0.8f), 1e-6f);
+    }
+
+    @Test
+    public void anglesMatchOffsetNorm() {
+        float norm = TiltMath.offsetNorm(5f);
+        assertEquals(5.0, TiltMath.rollDeg(norm), 1e-4);
+        assertEquals(-5.0, TiltMath.pitchDeg(norm), 1e-4);
+        assertEquals(0f, TiltMath.adjust(norm, norm), 0f);
+    }
+}
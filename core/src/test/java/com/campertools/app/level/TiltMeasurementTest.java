@@ -0,0 +1,72 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TiltMeasurementTest {
+
+    private static final long STEP_NS = 20_000_000L;
+
+    @Test
+    public void quietSamplesConvergeAfterMinimumDuration() {
+        TiltMeasurement measurement = new TiltMeasurement(500);
+        Random random = new Random(1);
+        long t = STEP_NS;
+        int samples = 0;
+        while (!measurement.isConverged(0.001) && samples < 400) {
+            measurement.add(0.03 + 0.002 * random.nextGaussian(), -0.01 + 0.002 * random.nextGaussian(), t);
+            t += STEP_NS;
+            samples++;
+        }
+        assertTrue(measurement.isConverged(0.001));
+        // Quiet data is done right after the 0.5 s minimum, well before a fixed 2 s average
+        assertTrue(samples < 50);
+        assertEquals(0.03, measurement.meanX(), 0.001);
+        assertEquals(-0.01, measurement.meanY(), 0.001);
+    }
+
+    @Test
+    public void spikesAreRejected() {
+        TiltMeasurement measurement = new TiltMeasurement(0);
+        Random random = new Random(2);
+        long t = STEP_NS;
+        for (int i = 0; i < 100; i++) {
+            double x = 0.05 + 0.001 * random.nextGaussian();
+            if (i % 20 == 19) {
+                // Someone steps into the van
+                x += 0.3;
+            }
+            measurement.add(x, 0.0, t);
+            t += STEP_NS;
+        }
+        assertEquals(5, measurement.rejected());
+        assertEquals(0.05, measurement.meanX(), 0.001);
+    }
+
+    @Test
+    public void noisySamplesDoNotConvergeEarly() {
+        TiltMeasurement measurement = new TiltMeasurement(500);
+        Random random = new Random(3);
+        long t = STEP_NS;
+        for (int i = 0; i < 100; i++) {
+            measurement.add(0.02 * random.nextGaussian(), 0.02 * random.nextGaussian(), t);
+            t += STEP_NS;
+        }
+        assertFalse(measurement.isConverged(0.001));
+        assertTrue(measurement.halfWidthX() > 0.001);
+    }
+
+    @Test
+    public void repeatedTimestampsAreIgnored() {
+        TiltMeasurement measurement = new TiltMeasurement(0);
+        measurement.add(0.1, 0.1, 100L);
+        assertFalse(measurement.add(0.5, 0.5, 100L));
+        assertEquals(1, measurement.count());
+        assertEquals(Double.POSITIVE_INFINITY, measurement.halfWidthX(), 0.0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.campertools.app.level;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TiltProcessorTest {
+
+    @Test
+    public void offsetsAreRemovedFromTilt() {
+        TiltProcessor processor = new TiltProcessor(SensorFilters.heading());
+        processor.setOffsets(2f, -3f);
+        float g = TiltProcessor.STANDARD_GRAVITY;
+        processor.updateTilt((float) Math.sin(Math.toRadians(-3)) * g, (float) Math.sin(Math.toRadians(2)) * g);
+
+        assertEquals(0.0, processor.getAdjustedX(), 1e-5);
+        assertEquals(0.0, processor.getAdjustedY(), 1e-5);
+        assertEquals(0.0, processor.getPitchDeg(), 1e-3);
+        assertEquals(0.0, processor.getRollDeg(), 1e-3);
+    }
+
+    @Test
+    public void headingSmoothsAcrossNorth() {
+        TiltProcessor processor = new TiltProcessor(SensorFilters.heading());
+        processor.updateHeading(350f, 0L);
+        processor.updateHeading(10f, 20_000_000L);
+        float heading = processor.getHeadingDeg();
+        // Moved toward 10° the short way, through north
+        assertTrue(heading > 350f && heading < 360f);
+        for (long t = 40_000_000L; t < 5_000_000_000L; t += 20_000_000L) {
+            processor.updateHeading(-100f, t);
+        }
+        assertEquals(260f, processor.getHeadingDeg(), 0.1f);
+    }
+
+    @Test
+    public void sensorSampleDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        TiltProcessor processor = new TiltProcessor(SensorFilters.heading());
+        OneEuroFilter accel = SensorFilters.accelerometer();
+        float[] gravity = new float[3];
+        processor.setOffsets(1.5f, -0.5f);
+        ReadoutFormatter tilt = new ReadoutFormatter("Pitch: %1$.1f° Roll: %2$.1f°", Locale.US);
+        ReadoutFormatter heading = new ReadoutFormatter("Heading: %.0f°", Locale.US);
+
+        // Warm up so the JIT has compiled the path before measuring
+        runSamples(processor, accel, gravity, tilt, heading, 0, 20_000);
+        long overhead = threads.getThreadAllocatedBytes(thread);
+        overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+        // Best of several rounds: a stray JIT recompilation can charge a few bytes to this thread
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated != 0L; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            runSamples(processor, accel, gravity, tilt, heading, 20_000 + round * 10_000, 10_000);
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before - overhead);
+        }
+
+        assertEquals(0L, allocated);
+    }
+
+    private static int runSamples(TiltProcessor processor, OneEuroFilter accel, float[] gravity,
+                                  ReadoutFormatter tilt, ReadoutFormatter heading, int start, int count) {
+        int chars = 0;
+        for (int i = start; i < start + count; i++) {
+            float t = i * 0.01f;
+            long timestampNs = i * 10_000_000L;
+            gravity[0] = (float) Math.sin(t) * 2f;
+            gravity[1] = (float) Math.cos(t) * 2f;
+            gravity[2] = 9f;
+            accel.filter(gravity, timestampNs, gravity);
+            processor.updateTilt(gravity[0], gravity[1]);
+            chars += tilt.format(processor.getPitchDeg(), processor.getRollDeg());
+            processor.updateHeading(i % 360, timestampNs);
+            chars += heading.format(processor.getHeadingDeg());
+        }
+        return chars;
+    }
+}
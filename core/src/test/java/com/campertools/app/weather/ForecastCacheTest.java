@@ -0,0 +1,74 @@
+package com.campertools.app.weather;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ForecastCacheTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void cellKeyGroupsNearbyCoordinates() {
+        assertEquals(ForecastCache.cellKey(47.3712, 8.5421), ForecastCache.cellKey(47.3799, 8.5499));
+        assertNotEquals(ForecastCache.cellKey(47.3712, 8.5421), ForecastCache.cellKey(47.4712, 8.5421));
+        assertNotEquals(ForecastCache.cellKey(-0.01, 0.01), ForecastCache.cellKey(0.01, 0.01));
+    }
+
+    @Test
+    public void putThenGetRoundTripsJsonAndExpiry() throws Exception {
+        ForecastCache cache = new ForecastCache(new File(tmp.getRoot(), "forecast"));
+        String json = "{\"hourly\":{\"temperature_2m\":[1.5,2.5]}}\n";
+        cache.put("k", json, 1_000L, 500L, "t");
+
+        ForecastCache.Entry entry = cache.get("k");
+        assertNotNull(entry);
+        assertEquals(json, readBody(entry));
+        assertEquals(1_000L, entry.fetchedAtMs);
+        assertTrue(entry.isFresh(1_499L));
+        assertFalse(entry.isFresh(1_500L));
+        assertEquals(250L, entry.ageMs(1_250L));
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedWhenOverBudget() throws Exception {
+        File dir = new File(tmp.getRoot(), "forecast");
+        ForecastCache cache = new ForecastCache(dir, 250);
+        String payload = new String(new char[100]).replace('\0', 'x');
+
+        cache.put("a", payload, 0L, 1L, "t");
+        new File(dir, "a.json").setLastModified(1_000L);
+        cache.put("b", payload, 0L, 1L, "t");
+        new File(dir, "b.json").setLastModified(2_000L);
+        cache.put("c", payload, 0L, 1L, "t");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    private static String readBody(ForecastCache.Entry entry) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = entry.openBody()) {
+            byte[] buffer = new byte[256];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        return out.toString("UTF-8");
+    }
+}
@@ -0,0 +1,174 @@
+package com.campertools.app.weather;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ForecastLoaderTest {
+
+    private static final ForecastRequest CURRENT = new ForecastRequest.Builder().currentWeather().build();
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void concurrentLoadsForSameCellShareOneFetch() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger fetches = new AtomicInteger();
+        final ForecastFrame frame = OpenMeteoParser.parse("{\"current_weather\":{\"temperature\":5}}");
+        ForecastLoader.Fetcher fetcher = new ForecastLoader.Fetcher() {
+            @Override
+            public ForecastFrame fetch(double latitude, double longitude, ForecastRequest request,
+                                       OutputStream copyTo) throws IOException {
+                fetches.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                copyTo.write("{\"current_weather\":{\"temperature\":5}}".getBytes("UTF-8"));
+                return frame;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ForecastLoader loader = new ForecastLoader(
+                new ForecastCache(new File(tmp.getRoot(), "forecast")), executor, 60_000L, fetcher);
+
+        RecordingCallback first = new RecordingCallback();
+        RecordingCallback second = new RecordingCallback();
+        RecordingCallback third = new RecordingCallback();
+        assertTrue(loader.load(CURRENT, 47.371, 8.542, first));
+        assertFalse(loader.load(CURRENT, 47.372, 8.543, second));
+        assertFalse(loader.load(CURRENT, 47.372, 8.543, second));
+        assertTrue(loader.load(CURRENT, 48.371, 8.542, third));
+        release.countDown();
+
+        first.await();
+        second.await();
+        third.await();
+        executor.shutdown();
+
+        assertEquals(2, fetches.get());
+        assertEquals(1, first.frames.size());
+        assertEquals(1, second.frames.size());
+        assertSame(frame, second.frames.get(0));
+
+        // Finished flights are not joined; the fresh cache entry answers without a fetch
+        RecordingCallback later = new RecordingCallback();
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        new ForecastLoader(new ForecastCache(new File(tmp.getRoot(), "forecast")), single, 60_000L, fetcher)
+                .load(CURRENT, 47.371, 8.542, later);
+        later.await();
+        single.shutdown();
+        assertEquals(2, fetches.get());
+        assertEquals(5.0, later.frames.get(0).currentTempC, 0.0);
+    }
+
+    @Test
+    public void narrowerCachedEntryIsWidenedNotServed() throws Exception {
+        final List<ForecastRequest> fetched = new ArrayList<>();
+        ForecastLoader.Fetcher fetcher = new ForecastLoader.Fetcher() {
+            @Override
+            public ForecastFrame fetch(double latitude, double longitude, ForecastRequest request,
+                                       OutputStream copyTo) throws IOException {
+                fetched.add(request);
+                copyTo.write("{}".getBytes("UTF-8"));
+                return OpenMeteoParser.parse("{}");
+            }
+        };
+        ForecastCache cache = new ForecastCache(new File(tmp.getRoot(), "forecast"));
+        String key = ForecastCache.cellKey(47.371, 8.542);
+        cache.put(key, "{}", System.currentTimeMillis(), 60_000L, CURRENT.signature());
+        ForecastRequest daily = new ForecastRequest.Builder()
+                .daily(ForecastRequest.DAILY_SUNRISE)
+                .days(4)
+                .build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ForecastLoader loader = new ForecastLoader(cache, executor, 60_000L, fetcher);
+        RecordingCallback callback = new RecordingCallback();
+        loader.load(daily, 47.371, 8.542, callback);
+        callback.await();
+        RecordingCallback again = new RecordingCallback();
+        loader.load(CURRENT, 47.371, 8.542, again);
+        again.await();
+        executor.shutdown();
+
+        assertEquals(1, fetched.size());
+        assertEquals(CURRENT.union(daily), fetched.get(0));
+        assertEquals(CURRENT.union(daily).signature(), cache.get(key).tag);
+    }
+
+    @Test
+    public void uncheckedFetchFailureEndsTheFlight() throws Exception {
+        final AtomicInteger fetches = new AtomicInteger();
+        ForecastLoader.Fetcher fetcher = new ForecastLoader.Fetcher() {
+            @Override
+            public ForecastFrame fetch(double latitude, double longitude, ForecastRequest request,
+                                       OutputStream copyTo) throws IOException {
+                if (fetches.incrementAndGet() == 1) {
+                    throw new IllegalStateException("bad payload");
+                }
+                copyTo.write("{}".getBytes("UTF-8"));
+                return OpenMeteoParser.parse("{}");
+            }
+        };
+        ForecastCache cache = new ForecastCache(new File(tmp.getRoot(), "forecast"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ForecastLoader loader = new ForecastLoader(cache, executor, 60_000L, fetcher);
+
+        RecordingCallback failed = new RecordingCallback();
+        assertTrue(loader.load(CURRENT, 47.371, 8.542, failed));
+        failed.await();
+        assertTrue(failed.error instanceof IOException);
+        assertNull(cache.get(ForecastCache.cellKey(47.371, 8.542)));
+
+        RecordingCallback retry = new RecordingCallback();
+        assertTrue(loader.load(CURRENT, 47.371, 8.542, retry));
+        retry.await();
+        executor.shutdown();
+        assertEquals(2, fetches.get());
+        assertEquals(1, retry.frames.size());
+    }
+
+    private static final class RecordingCallback implements ForecastLoader.Callback {
+        final List<ForecastFrame> frames = new ArrayList<>();
+        volatile IOException error;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public synchronized void onForecast(ForecastFrame forecast, boolean stale) {
+            frames.add(forecast);
+            if (!stale) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void onError(IOException error) {
+            this.error = error;
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.campertools.app.weather;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ForecastObserversTest {
+
+    private static final ForecastRequest CURRENT = new ForecastRequest.Builder().currentWeather().build();
+    private static final ForecastRequest SUN = new ForecastRequest.Builder()
+            .daily(ForecastRequest.DAILY_SUNRISE | ForecastRequest.DAILY_SUNSET)
+            .build();
+
+    @Test
+    public void framesAndErrorsOnlyReachObserversOfTheirCell() throws Exception {
+        String cellA = ForecastCache.cellKey(47.371, 8.542);
+        String cellB = ForecastCache.cellKey(46.204, 6.143);
+        ForecastFrame frameA = OpenMeteoParser.parse("{\"current_weather\":{\"temperature\":5},"
+                + "\"daily\":{\"time\":[\"2026-10-17\"],\"sunrise\":[\"2026-10-17T07:40\"],"
+                + "\"sunset\":[\"2026-10-17T18:30\"]}}");
+        assertTrue(CURRENT.isSatisfiedBy(frameA));
+        assertTrue(SUN.isSatisfiedBy(frameA));
+
+        ForecastObservers<String> observers = new ForecastObservers<>();
+        observers.add(CURRENT, "weather");
+        observers.add(SUN, "sun");
+        assertEquals(Collections.emptyList(), observers.forFrame(cellA, frameA));
+
+        observers.watch(CURRENT, cellA);
+        observers.watch(SUN, cellB);
+        assertEquals(Collections.singletonList("weather"), observers.forFrame(cellA, frameA));
+        assertEquals(Collections.emptyList(), observers.forError(cellA, SUN));
+        assertEquals(Collections.singletonList("sun"), observers.forError(cellB, SUN));
+
+        observers.watch(SUN, cellA);
+        assertEquals(2, observers.forFrame(cellA, frameA).size());
+        observers.remove("weather");
+        assertEquals(Collections.singletonList("sun"), observers.forFrame(cellA, frameA));
+    }
+}
@@ -0,0 +1,66 @@
+package com.campertools.app.weather;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ForecastRequestTest {
+
+    private static final ForecastRequest NOW = new ForecastRequest.Builder()
+            .currentWeather()
+            .hourly(ForecastRequest.HOURLY_TEMPERATURE | ForecastRequest.HOURLY_PRECIPITATION)
+            .hours(24)
+            .build();
+    private static final ForecastRequest SUN = new ForecastRequest.Builder()
+            .hourly(ForecastRequest.HOURLY_CLOUD_COVER)
+            .daily(ForecastRequest.DAILY_SUNRISE | ForecastRequest.DAILY_SUNSET)
+            .days(4)
+            .build();
+
+    @Test
+    public void hoursAreConvertedToWholeForecastDays() {
+        assertEquals(2, NOW.forecastDays);
+        assertEquals(1, new ForecastRequest.Builder().currentWeather().build().forecastDays);
+        assertEquals(3, new ForecastRequest.Builder().hourly(1).hours(25).build().forecastDays);
+        assertEquals(ForecastRequest.MAX_FORECAST_DAYS,
+                new ForecastRequest.Builder().daily(1).days(40).build().forecastDays);
+    }
+
+    @Test
+    public void queryListsOnlyRequestedVariables() {
+        assertEquals("&hourly=temperature_2m,precipitation&current_weather=true&forecast_days=2", NOW.query());
+        assertEquals("&hourly=cloudcover&daily=sunrise,sunset&forecast_days=4", SUN.query());
+    }
+
+    @Test
+    public void unionCoversBothAndRoundTripsThroughSignature() {
+        ForecastRequest union = NOW.union(SUN);
+        assertTrue(union.covers(NOW));
+        assertTrue(union.covers(SUN));
+        assertFalse(NOW.covers(SUN));
+        assertFalse(SUN.covers(NOW));
+        assertEquals(4, union.forecastDays);
+        assertEquals(union, ForecastRequest.fromSignature(union.signature()));
+        assertNull(ForecastRequest.fromSignature(""));
+        assertNull(ForecastRequest.fromSignature("1.x.0.2"));
+    }
+
+    @Test
+    public void frameSatisfiesRequestOnlyWithAllColumnsAndHorizon() throws Exception {
+        StringBuilder json = new StringBuilder("{\"current_weather\":{\"temperature\":1},\"hourly\":{\"time\":[");
+        for (int i = 0; i < 48; i++) {
+            json.append(i == 0 ? "" : ",").append("\"2024-05-0").append(1 + i / 24).append('T')
+                    .append(i % 24 < 10 ? "0" : "").append(i % 24).append(":00\"");
+        }
+        json.append("],\"temperature_2m\":[],\"precipitation\":[]}}");
+        ForecastFrame frame = OpenMeteoParser.parse(json.toString());
+
+        assertTrue(NOW.isSatisfiedBy(frame));
+        assertFalse(SUN.isSatisfiedBy(frame));
+        assertFalse(new ForecastRequest.Builder().hourly(ForecastRequest.HOURLY_TEMPERATURE).hours(48).build()
+                .isSatisfiedBy(frame));
+    }
+}
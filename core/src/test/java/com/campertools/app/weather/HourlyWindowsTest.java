@@ -0,0 +1,107 @@
+package com.campertools.app.weather;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HourlyWindowsTest {
+
+    private static final int[] CODES = {0, 3, 61, 56, 71, 95, ForecastFrame.MISSING_CODE};
+
+    @Test
+    public void everyWindowMatchesBruteForce() {
+        Random random = new Random(7);
+        int n = 72;
+        ForecastFrame.Builder b = new ForecastFrame.Builder();
+        b.hourlyTemperatureC = new double[n];
+        b.hourlyPrecipitationMm = new double[n];
+        b.hourlyCloudCoverPercent = new double[n];
+        b.hourlySunshineSeconds = new double[n];
+        b.hourlyIsDay = new int[n];
+        b.hourlyWeatherCode = new int[n];
+        for (int i = 0; i < n; i++) {
+            b.hourlyTemperatureC[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextDouble() * 40 - 10;
+            b.hourlyPrecipitationMm[i] = random.nextInt(3) == 0 ? random.nextDouble() : 0.0;
+            b.hourlyCloudCoverPercent[i] = random.nextDouble() * 100;
+            b.hourlySunshineSeconds[i] = random.nextDouble() * 3600;
+            b.hourlyIsDay[i] = random.nextInt(2);
+            b.hourlyWeatherCode[i] = CODES[random.nextInt(CODES.length)];
+        }
+        ForecastFrame forecast = b.build();
+        HourlyWindows windows = forecast.hourlyWindows();
+
+        for (int from = 0; from < n; from++) {
+            for (int to = from + 1; to <= n; to++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                double tempSum = 0;
+                int tempCount = 0;
+                double precip = 0;
+                double cloud = 0;
+                double sunshine = 0;
+                int daylight = 0;
+                boolean anyPrecip = false;
+                boolean anySnow = false;
+                boolean anyThunder = false;
+                boolean anyFreezing = false;
+                int flags = 0;
+                for (int i = from; i < to; i++) {
+                    double t = forecast.hourlyTemperatureC[i];
+                    if (!Double.isNaN(t)) {
+                        min = Math.min(min, t);
+                        max = Math.max(max, t);
+                        tempSum += t;
+                        tempCount++;
+                    }
+                    precip += forecast.hourlyPrecipitationMm[i];
+                    anyPrecip |= forecast.hourlyPrecipitationMm[i] > 0.05;
+                    cloud += forecast.hourlyCloudCoverPercent[i];
+                    sunshine += forecast.hourlySunshineSeconds[i];
+                    daylight += forecast.hourlyIsDay[i];
+                    int code = forecast.hourlyWeatherCode[i];
+                    anySnow |= WeatherUnits.isSnowCode(code);
+                    anyThunder |= WeatherUnits.isThunderCode(code);
+                    anyFreezing |= WeatherUnits.isFreezingCode(code);
+                    flags |= WeatherUnits.weatherCodeInfo(code) & WeatherUnits.WMO_FLAG_MASK;
+                }
+                assertEquals(tempCount, windows.temperatureCount(from, to));
+                if (tempCount > 0) {
+                    assertEquals(min, windows.minTemperature(from, to), 0.0);
+                    assertEquals(max, windows.maxTemperature(from, to), 0.0);
+                    assertEquals(tempSum / tempCount, windows.meanTemperature(from, to), 1e-9);
+                }
+                assertEquals(precip, windows.precipitationSum(from, to), 1e-9);
+                assertEquals(cloud / (to - from), windows.meanCloudCover(from, to), 1e-9);
+                assertEquals(sunshine, windows.sunshineSeconds(from, to), 1e-6);
+                assertEquals(daylight, windows.daylightHours(from, to));
+                assertEquals(anyPrecip, windows.anyPrecipitation(from, to));
+                assertEquals(anySnow, windows.anySnow(from, to));
+                assertEquals(anyThunder, windows.anyThunder(from, to));
+                assertEquals(anyFreezing, windows.anyFreezing(from, to));
+                assertEquals(flags, windows.weatherFlags(from, to));
+            }
+        }
+    }
+
+    @Test
+    public void windowsAreClampedAndMissingSeriesReadAsEmpty() {
+        ForecastFrame.Builder b = new ForecastFrame.Builder();
+        b.hourlyTemperatureC = new double[]{4, Double.NaN, 9, 1};
+        ForecastFrame forecast = b.build();
+        HourlyWindows windows = forecast.hourlyWindows();
+
+        assertEquals(4, windows.hourCount());
+        assertEquals(1.0, windows.minTemperature(-5, 48), 0.0);
+        assertEquals(9.0, windows.maxTemperature(2, 48), 0.0);
+        assertTrue(Double.isNaN(windows.minTemperature(1, 2)));
+        assertTrue(Double.isNaN(windows.meanTemperature(6, 30)));
+        assertTrue(Double.isNaN(windows.meanCloudCover(0, 4)));
+        assertEquals(0.0, windows.precipitationSum(0, 4), 0.0);
+        assertEquals(0, windows.daylightHours(0, 4));
+        assertFalse(windows.anySnow(0, 4));
+    }
+}
@@ -0,0 +1,116 @@
+package com.campertools.app.weather;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OpenMeteoParserTest {
+
+    private static final String PAYLOAD = "{"
+            + "\"latitude\":47.38,\"longitude\":8.54,\"generationtime_ms\":0.0420,"
+            + "\"utc_offset_seconds\":7200,\"timezone\":\"Europe/Zurich\",\"elevation\":4.1e2,"
+            + "\"current_weather\":{\"temperature\":-3.5,\"windspeed\":11.2,\"winddirection\":270,"
+            + "\"weathercode\":3,\"is_day\":1,\"time\":\"2024-05-01T10:00\"},"
+            + "\"hourly_units\":{\"temperature_2m\":\"\\u00b0C\"},"
+            + "\"hourly\":{\"time\":[\"2024-05-01T00:00\",\"2024-05-01T01:00\",\"2024-05-01T02:00\"],"
+            + "\"temperature_2m\":[1.5,-0.25,null],"
+            + "\"precipitation\":[0.0,1.2E-1,0.3],"
+            + "\"weathercode\":[61,95,null],"
+            + "\"is_day\":[0,0,1],"
+            + "\"extra_series\":[[1,2],{\"a\":true},\"x\\\"y\"]},"
+            + "\"daily\":{\"time\":[\"2024-05-01\",\"2024-05-02\"],"
+            + "\"sunrise\":[\"2024-05-01T06:05\",\"2024-05-02T06:03\"],"
+            + "\"sunset\":[\"2024-05-01T20:40\",\"2024-05-02T20:42\"],"
+            + "\"temperature_2m_max\":[18.4,21.0]}"
+            + "}";
+
+    @Test
+    public void parsesCurrentHourlyAndDailyColumns() throws Exception {
+        ForecastFrame forecast = OpenMeteoParser.parse(
+                new ByteArrayInputStream(PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(forecast.hasCurrentWeather);
+        assertEquals(-3.5, forecast.currentTempC, 0.0);
+        assertEquals(11.2, forecast.currentWindKmh, 0.0);
+        assertEquals(270.0, forecast.currentWindDirectionDeg, 0.0);
+
+        assertEquals(3, forecast.hourlyTemperatureC.length);
+        assertEquals(1.5, forecast.hourlyTemperatureC[0], 0.0);
+        assertEquals(-0.25, forecast.hourlyTemperatureC[1], 0.0);
+        assertTrue(Double.isNaN(forecast.hourlyTemperatureC[2]));
+        assertEquals(0.12, forecast.hourlyPrecipitationMm[1], 0.0);
+        assertArrayEquals(new int[]{61, 95, ForecastFrame.MISSING_CODE}, forecast.hourlyWeatherCode);
+        assertArrayEquals(new int[]{0, 0, 1}, forecast.hourlyIsDay);
+        assertNull(forecast.hourlyCloudCoverPercent);
+
+        // Local times at UTC+2: 2024-05-01T00:00+02:00 is 1714514400
+        assertArrayEquals(new long[]{1714514400L, 1714518000L, 1714521600L}, forecast.hourlyTime);
+        assertEquals(7200, forecast.utcOffsetSeconds);
+        assertEquals(3, forecast.hourCount());
+
+        assertArrayEquals(new long[]{1714514400L, 1714600800L}, forecast.dailyTime);
+        assertEquals(1714600800L + 20 * 3600 + 42 * 60, forecast.dailySunset[1]);
+        assertEquals(21.0, forecast.dailyTemperatureMaxC[1], 0.0);
+        assertNull(forecast.dailyWeatherCode);
+    }
+
+    @Test
+    public void hourIndexAtFindsTheSlotContainingAnInstant() throws Exception {
+        ForecastFrame forecast = OpenMeteoParser.parse(PAYLOAD);
+
+        assertEquals(0, forecast.hourIndexAt(1714514400L - 60));
+        assertEquals(0, forecast.hourIndexAt(1714514400L));
+        assertEquals(1, forecast.hourIndexAt(1714518000L + 1799));
+        assertEquals(2, forecast.hourIndexAt(1714521600L + 3599));
+        assertEquals(3, forecast.hourIndexAt(1714521600L + 3600));
+        assertEquals(-1, OpenMeteoParser.parse("{}").hourIndexAt(1714514400L));
+    }
+
+    @Test
+    public void numbersMatchReferenceParser() throws Exception {
+        JSONArray values = new JSONArray();
+        double v = -40.0;
+        for (int i = 0; i < 2000; i++) {
+            values.put(Math.round(v * 100.0) / 100.0);
+            v += 0.37;
+        }
+        values.put(1.0E-7).put(123456789.125).put(0.1 + 0.2);
+        String json = new JSONObject().put("hourly", new JSONObject().put("temperature_2m", values)).toString();
+
+        double[] parsed = OpenMeteoParser.parse(json).hourlyTemperatureC;
+        assertEquals(values.length(), parsed.length);
+        for (int i = 0; i < parsed.length; i++) {
+            assertEquals(values.getDouble(i), parsed[i], 0.0);
+        }
+    }
+
+    @Test
+    public void missingCurrentWeatherIsReported() throws Exception {
+        ForecastFrame forecast = OpenMeteoParser.parse("{\"hourly\":{}}");
+        assertFalse(forecast.hasCurrentWeather);
+        assertNull(forecast.hourlyTemperatureC);
+    }
+
+    @Test
+    public void timeColumnsHandleSecondsNullsAndLeapDays() throws Exception {
+        ForecastFrame forecast = OpenMeteoParser.parse("{\"hourly\":{\"time\":"
+                + "[\"1970-01-01T00:00:01\",null,\"2024-02-29T12:30\",\"2100-03-01T00:00\"]}}");
+        assertArrayEquals(new long[]{1L, ForecastFrame.MISSING_TIME, 1709209800L, 4107542400L},
+                forecast.hourlyTime);
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedPayloadFails() throws Exception {
+        OpenMeteoParser.parse(PAYLOAD.substring(0, PAYLOAD.length() / 2));
+    }
+}
@@ -0,0 +1,86 @@
+package com.campertools.app.weather;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UnitSystemTest {
+
+    @Test
+    public void columnsConvertInPlaceAndIntoBuffers() {
+        double[] celsius = {-40, 0, 20, Double.NaN};
+        double[] out = new double[6];
+        assertSame(out, UnitSystem.IMPERIAL.temperatures(celsius, out));
+        assertEquals(-40.0, out[0], 1e-9);
+        assertEquals(32.0, out[1], 1e-9);
+        assertEquals(68.0, out[2], 1e-9);
+        assertTrue(Double.isNaN(out[3]));
+
+        double[] kmh = {10, 100};
+        UnitSystem.IMPERIAL.speeds(kmh, kmh);
+        assertArrayEquals(new double[]{6.21371, 62.1371}, kmh, 1e-9);
+
+        double[] mm = {10, 2.5};
+        UnitSystem.METRIC.precipitations(mm, mm);
+        assertArrayEquals(new double[]{10, 2.5}, mm, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortOutputBufferIsRejected() {
+        UnitSystem.IMPERIAL.speeds(new double[3], new double[2]);
+    }
+
+    @Test
+    public void scalarsMatchBatch() {
+        double[] in = {-12.3, 0.4, 17.9};
+        double[] out = UnitSystem.IMPERIAL.precipitations(in, new double[3]);
+        for (int i = 0; i < in.length; i++) {
+            assertEquals(WeatherUnits.mmToInches(in[i]), out[i], 0.0);
+        }
+        assertSame(UnitSystem.IMPERIAL, UnitSystem.of(true));
+        assertSame(UnitSystem.METRIC, UnitSystem.of(false));
+    }
+
+    @Test
+    public void dailyProjectionReprojectsWholeForecast() {
+        ForecastFrame.Builder b = new ForecastFrame.Builder();
+        b.dailyLocalTime = new long[]{0, 86400, 172800};
+        b.dailyTemperatureMaxC = new double[]{10, 20, 30};
+        b.dailyTemperatureMinC = new double[]{0, 5, 10};
+        b.dailyWindGustsMaxKmh = new double[]{50, 60, 70};
+        b.dailyWindDirectionDominantDeg = new double[]{0, 90, 225};
+        ForecastFrame forecast = b.build();
+
+        DailyProjection daily = new DailyProjection();
+        daily.project(forecast, UnitSystem.METRIC);
+        assertEquals(3, daily.dayCount());
+        assertEquals(20.0, daily.temperatureMax(1), 0.0);
+        assertEquals(60.0, daily.windGustMax(1), 0.0);
+        assertEquals("E", daily.windDirection(1));
+        assertEquals("SW", daily.windDirection(2));
+        assertTrue(Double.isNaN(daily.precipitation(0)));
+
+        daily.project(forecast, UnitSystem.IMPERIAL);
+        assertSame(UnitSystem.IMPERIAL, daily.units());
+        assertEquals(86.0, daily.temperatureMax(2), 1e-9);
+        assertEquals(41.0, daily.temperatureMin(1), 1e-9);
+        assertEquals(WeatherUnits.kmhToMph(70), daily.windGustMax(2), 0.0);
+
+        ForecastFrame.Builder gap = new ForecastFrame.Builder();
+        gap.dailyLocalTime = new long[]{0, 86400};
+        gap.dailyWindDirectionDominantDeg = new double[]{Double.NaN, 270};
+        daily.project(gap.build(), UnitSystem.METRIC);
+        assertNull(daily.windDirection(0));
+        assertEquals("W", daily.windDirection(1));
+
+        ForecastFrame.Builder noWind = new ForecastFrame.Builder();
+        noWind.dailyLocalTime = new long[]{0};
+        daily.project(noWind.build(), UnitSystem.METRIC);
+        assertEquals(1, daily.dayCount());
+        assertNull(daily.windDirection(0));
+    }
+}
@@ -0,0 +1,138 @@
+package com.campertools.app.weather;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WeatherNowParserTest {
+
+    // 2026-10-17T00:00 at UTC+2
+    private static final long MIDNIGHT_ZURICH = 1792195200L - 7200L;
+
+    @Test
+    public void parseCurrentAndNext24hExtractsRollingSummary() throws Exception {
+        JSONObject root = new JSONObject();
+        root.put("current_weather", new JSONObject()
+                .put("temperature", 12.5)
+                .put("windspeed", 18.2)
+                .put("winddirection", 135.0));
+
+        root.put("utc_offset_seconds", 7200);
+        JSONArray time = localHours(17, 0, 30);
+        JSONArray temps = new JSONArray();
+        JSONArray precip = new JSONArray();
+        JSONArray weatherCode = new JSONArray();
+        for (int i = 0; i < 30; i++) {
+            temps.put(5 + i); // 5..34
+            precip.put(i % 4 == 0 ? 0.6 : 0.0);
+            weatherCode.put(i == 10 ? 95 : 61);
+        }
+
+        root.put("hourly", new JSONObject()
+                .put("time", time)
+                .put("temperature_2m", temps)
+                .put("precipitation", precip)
+                .put("weathercode", weatherCode));
+
+        // 02:30 local time falls in the third slot
+        long now = MIDNIGHT_ZURICH + 2 * 3600 + 1800;
+
+        WeatherNowSnapshot snapshot = WeatherNowParser.parseCurrentAndNext24h(root.toString(), now);
+        assertNotNull(snapshot);
+        assertEquals(12.5, snapshot.currentTempC, 0.0001);
+        assertEquals(18.2, snapshot.currentWindKmh, 0.0001);
+        assertEquals(135.0, snapshot.currentWindDirectionDeg, 0.0001);
+        assertEquals(7.0, snapshot.minTempC, 0.0001);
+        assertEquals(30.0, snapshot.maxTempC, 0.0001);
+        assertTrue(snapshot.anyPrecip);
+        assertTrue(snapshot.anyThunderCode);
+        assertEquals(3.6, snapshot.sumPrecipMm, 0.0001);
+    }
+
+    @Test
+    public void parseReturnsNullWhenHourlyWindowIsInvalid() throws Exception {
+        JSONObject root = new JSONObject();
+        root.put("current_weather", new JSONObject()
+                .put("temperature", 10.0)
+                .put("windspeed", 5.0)
+                .put("winddirection", 90.0));
+
+        root.put("utc_offset_seconds", 7200);
+        root.put("hourly", new JSONObject()
+                .put("time", localHours(17, 0, 2))
+                .put("temperature_2m", new JSONArray().put(1).put(2))
+                .put("precipitation", new JSONArray().put(0).put(0))
+                .put("weathercode", new JSONArray().put(0).put(0)));
+
+        // 23:00 local time is past the two hours the response covers
+        long now = MIDNIGHT_ZURICH + 23 * 3600;
+
+        WeatherNowSnapshot snapshot = WeatherNowParser.parseCurrentAndNext24h(root.toString(), now);
+        assertNull(snapshot);
+    }
+
+    @Test
+    public void windowFollowsTheResponseTimeAxisAcrossZonesAndMidnight() throws Exception {
+        // A cached response for Denver (UTC-6 in October) that started the previous day
+        JSONObject root = new JSONObject();
+        root.put("utc_offset_seconds", -21600);
+        root.put("current_weather", new JSONObject()
+                .put("temperature", 3.0)
+                .put("windspeed", 4.0)
+                .put("winddirection", 0.0));
+        JSONArray temps = new JSONArray();
+        JSONArray precip = new JSONArray();
+        JSONArray weatherCode = new JSONArray();
+        for (int i = 0; i < 72; i++) {
+            temps.put(i);
+            precip.put(0.0);
+            weatherCode.put(i == 20 ? 71 : 0);
+        }
+        root.put("hourly", new JSONObject()
+                .put("time", localHours(16, 0, 72))
+                .put("temperature_2m", temps)
+                .put("precipitation", precip)
+                .put("weathercode", weatherCode));
+
+        // 01:15 on the 17th in Denver is 07:15 UTC, whatever the device's own zone is
+        long now = 1792195200L + 7 * 3600 + 900;
+
+        WeatherNowSnapshot snapshot = WeatherNowParser.parseCurrentAndNext24h(root.toString(), now);
+        assertNotNull(snapshot);
+        assertEquals(25.0, snapshot.minTempC, 0.0001);
+        assertEquals(48.0, snapshot.maxTempC, 0.0001);
+        assertFalse(snapshot.anySnowCode);
+    }
+
+    @Test
+    public void parseReturnsNullWithoutTimeAxis() throws Exception {
+        JSONObject root = new JSONObject();
+        root.put("current_weather", new JSONObject()
+                .put("temperature", 10.0)
+                .put("windspeed", 5.0)
+                .put("winddirection", 90.0));
+        root.put("hourly", new JSONObject()
+                .put("temperature_2m", new JSONArray().put(1).put(2))
+                .put("precipitation", new JSONArray().put(0).put(0))
+                .put("weathercode", new JSONArray().put(0).put(0)));
+
+        assertNull(WeatherNowParser.parseCurrentAndNext24h(root.toString(), MIDNIGHT_ZURICH));
+    }
+
+    private static JSONArray localHours(int day, int startHour, int count) {
+        JSONArray time = new JSONArray();
+        for (int i = 0; i < count; i++) {
+            int hour = startHour + i;
+            time.put(String.format(Locale.US, "2026-10-%02dT%02d:00", day + hour / 24, hour % 24));
+        }
+        return time;
+    }
+}
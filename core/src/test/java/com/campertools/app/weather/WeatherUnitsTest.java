@@ -0,0 +1,107 @@
+package com.campertools.app.weather;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WeatherUnitsTest {
+
+    @Test
+    public void cardinalDirectionWrapsCorrectly() {
+        assertEquals("N", WeatherUnits.cardinalDirection(0));
+        assertEquals("N", WeatherUnits.cardinalDirection(359));
+        assertEquals("NE", WeatherUnits.cardinalDirection(45));
+        assertEquals("W", WeatherUnits.cardinalDirection(270));
+        assertEquals("N", WeatherUnits.cardinalDirection(-1));
+    }
+
+    @Test
+    public void directionTableMatchesComputedBuckets() {
+        for (int tenths = -3600; tenths <= 7200; tenths++) {
+            double degrees = tenths / 10.0;
+            double normalized = ((degrees % 360d) + 360d) % 360d;
+            assertEquals((int) Math.round(normalized / 45d) % 8, WeatherUnits.directionBucketIndex(degrees));
+        }
+        int[] buckets = WeatherUnits.directionBuckets(new double[]{0, 44, 135, 315}, new int[4]);
+        assertEquals("N", WeatherUnits.cardinalLabel(buckets[0]));
+        assertEquals("NE", WeatherUnits.cardinalLabel(buckets[1]));
+        assertEquals("SE", WeatherUnits.cardinalLabel(buckets[2]));
+        assertEquals("NW", WeatherUnits.cardinalLabel(buckets[3]));
+    }
+
+    @Test
+    public void unitConversionsAreStable() {
+        assertEquals(32.0, WeatherUnits.celsiusToFahrenheit(0), 0.0001);
+        assertEquals(68.0, WeatherUnits.celsiusToFahrenheit(20), 0.0001);
+        assertEquals(6.21371, WeatherUnits.kmhToMph(10), 0.0001);
+        assertEquals(0.393701, WeatherUnits.mmToInches(10), 0.0001);
+    }
+
+    @Test
+    public void precipitationBucketsMatchThresholds() {
+        assertEquals(WeatherUnits.PRECIP_INTENSITY_VERY_LIGHT, WeatherUnits.precipitationIntensityBucket(0.8));
+        assertEquals(WeatherUnits.PRECIP_INTENSITY_LIGHT, WeatherUnits.precipitationIntensityBucket(3.0));
+        assertEquals(WeatherUnits.PRECIP_INTENSITY_MODERATE, WeatherUnits.precipitationIntensityBucket(10.0));
+        assertEquals(WeatherUnits.PRECIP_INTENSITY_HEAVY, WeatherUnits.precipitationIntensityBucket(20.0));
+    }
+
+    @Test
+    public void precipitationTypeUsesPriorityOrder() {
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_THUNDERSTORM_RAIN,
+                WeatherUnits.precipitationTypeBucket(10.0, false, true, false)
+        );
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_SNOW,
+                WeatherUnits.precipitationTypeBucket(0.5, true, false, false)
+        );
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_RAIN_SNOW_MIX,
+                WeatherUnits.precipitationTypeBucket(2.0, false, false, true)
+        );
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_RAIN,
+                WeatherUnits.precipitationTypeBucket(7.0, false, false, false)
+        );
+    }
+
+    @Test
+    public void weatherCodeTableMatchesWmoGroups() {
+        for (int code = -1; code <= 100; code++) {
+            assertEquals(code == 71 || code == 73 || code == 75 || code == 77 || code == 85 || code == 86,
+                    WeatherUnits.isSnowCode(code));
+            assertEquals(code == 95 || code == 96 || code == 99, WeatherUnits.isThunderCode(code));
+            assertEquals(code == 56 || code == 57 || code == 66 || code == 67, WeatherUnits.isFreezingCode(code));
+        }
+
+        int showers = WeatherUnits.weatherCodeInfo(82);
+        assertTrue((showers & WeatherUnits.WMO_CONVECTIVE) != 0);
+        assertTrue((showers & WeatherUnits.WMO_RAIN) != 0);
+        assertEquals(WeatherUnits.WMO_INTENSITY_HEAVY, WeatherUnits.weatherIntensity(showers));
+        assertEquals(WeatherUnits.WMO_ICON_RAIN_SHOWERS, WeatherUnits.weatherIcon(showers));
+
+        int fog = WeatherUnits.weatherCodeInfo(45);
+        assertEquals(WeatherUnits.WMO_LOW_VISIBILITY, fog & WeatherUnits.WMO_FLAG_MASK);
+        assertEquals(WeatherUnits.WMO_ICON_FOG, WeatherUnits.weatherIcon(fog));
+
+        assertEquals(WeatherUnits.WMO_ICON_CLEAR, WeatherUnits.weatherIcon(WeatherUnits.weatherCodeInfo(0)));
+        assertFalse((WeatherUnits.weatherCodeInfo(0) & WeatherUnits.WMO_PRECIP) != 0);
+        assertEquals(0, WeatherUnits.weatherCodeInfo(ForecastFrame.MISSING_CODE));
+        assertEquals(0, WeatherUnits.weatherCodeInfo(4));
+    }
+
+    @Test
+    public void precipitationTypeFromWindowFlags() {
+        int flags = WeatherUnits.weatherCodeInfo(61) | WeatherUnits.weatherCodeInfo(66);
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_RAIN_SNOW_MIX,
+                WeatherUnits.precipitationTypeBucket(7.0, flags & WeatherUnits.WMO_FLAG_MASK)
+        );
+        assertEquals(
+                WeatherUnits.PRECIP_TYPE_RAIN,
+                WeatherUnits.precipitationTypeBucket(7.0, WeatherUnits.WMO_PRECIP | WeatherUnits.WMO_RAIN)
+        );
+    }
+}